@@ -0,0 +1,71 @@
+package com.selimhorri.app.config.filter;
+
+import java.util.Set;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Fully read upstream response that can be replayed to other exchanges.
+ */
+@Getter
+@RequiredArgsConstructor
+final class BufferedResponse {
+	
+	private static final Set<String> UNREPLAYED_HEADERS = Set.of(
+			HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+			HttpHeaders.CONNECTION.toLowerCase(),
+			HttpHeaders.DATE.toLowerCase(),
+			ResponseCacheGlobalFilter.X_CACHE.toLowerCase());
+	
+	private final HttpStatus status;
+	private final HttpHeaders headers;
+	private final byte[] body;
+	
+	static Mono<byte[]> read(final Publisher<? extends DataBuffer> body) {
+		return DataBufferUtils.join(Flux.from(body))
+				.map(joined -> {
+					final byte[] bytes = new byte[joined.readableByteCount()];
+					joined.read(bytes);
+					DataBufferUtils.release(joined);
+					return bytes;
+				})
+				.defaultIfEmpty(new byte[0]);
+	}
+	
+	static BufferedResponse of(final ServerHttpResponse response, final byte[] body) {
+		final var headers = new HttpHeaders();
+		response.getHeaders().forEach((name, values) -> {
+			if (!UNREPLAYED_HEADERS.contains(name.toLowerCase()))
+				headers.addAll(name, values);
+		});
+		return new BufferedResponse(response.getStatusCode() != null ? response.getStatusCode() : HttpStatus.OK, 
+				HttpHeaders.readOnlyHttpHeaders(headers), body);
+	}
+	
+	Mono<Void> writeTo(final ServerHttpResponse response) {
+		response.setStatusCode(this.status);
+		response.getHeaders().putAll(this.headers);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(this.body)));
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,38 @@
+package com.selimhorri.app.config.filter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.gateway.coalescing")
+@Data
+public class CoalescingProperties {
+	
+	private boolean enabled = true;
+	
+	/**
+	 * Ant-style request paths whose concurrent identical GETs share one upstream call.
+	 */
+	private List<String> paths = new ArrayList<>();
+	
+	/**
+	 * How long a collapsed request waits for the shared response before 
+	 * calling upstream itself.
+	 */
+	private Duration timeout = Duration.ofSeconds(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,161 @@
+package com.selimhorri.app.config.filter;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Single-flight for anonymous GETs on the configured paths: the first request 
+ * for a path and query goes upstream, identical requests arriving while it is 
+ * in flight wait for its buffered response and replay it. Conditional requests 
+ * are never coalesced, and only a 200 is shared: should the shared call answer 
+ * anything else, fail, or not answer within the timeout, waiters call upstream 
+ * themselves. 
+ * Runs after the response cache, so only cache misses are coalesced; outcomes 
+ * are counted as {@code gateway.coalescing} with result=leader|collapsed|fallback.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RequestCoalescingGlobalFilter implements GlobalFilter, Ordered {
+	
+	private final Map<String, Sinks.One<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	
+	private final CoalescingProperties properties;
+	private final MeterRegistry meterRegistry;
+	
+	@Override
+	public int getOrder() {
+		return ResponseCacheGlobalFilter.ORDER + 1;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final var request = exchange.getRequest();
+		if (!this.isCoalescable(request))
+			return chain.filter(exchange);
+		
+		final var key = request.getURI().getRawQuery() == null ? 
+				request.getPath().value() : request.getPath().value() + "?" + request.getURI().getRawQuery();
+		final Sinks.One<BufferedResponse> sink = Sinks.one();
+		final var shared = this.inFlight.putIfAbsent(key, sink);
+		
+		if (shared != null)
+			return this.awaitShared(exchange, chain, shared);
+		
+		this.count("leader");
+		return chain.filter(exchange.mutate()
+					.response(new SharingResponseDecorator(exchange.getResponse(), key, sink))
+					.build())
+				.doFinally(signal -> {
+					this.inFlight.remove(key, sink);
+					sink.tryEmitEmpty();
+				});
+	}
+	
+	private Mono<Void> awaitShared(final ServerWebExchange exchange, final GatewayFilterChain chain, 
+			final Sinks.One<BufferedResponse> shared) {
+		return shared.asMono()
+				.timeout(this.properties.getTimeout())
+				.map(Optional::of)
+				.onErrorReturn(Optional.empty())
+				.defaultIfEmpty(Optional.empty())
+				.flatMap(response -> {
+					if (response.isPresent()) {
+						this.count("collapsed");
+						return response.get().writeTo(exchange.getResponse());
+					}
+					this.count("fallback");
+					log.debug("*** RequestCoalescingGlobalFilter; shared call unavailable, calling upstream *");
+					return chain.filter(exchange);
+				});
+	}
+	
+	private boolean isCoalescable(final ServerHttpRequest request) {
+		return this.properties.isEnabled()
+				&& request.getMethod() == HttpMethod.GET
+				&& !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+				&& !request.getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)
+				&& !request.getHeaders().containsKey(HttpHeaders.IF_MODIFIED_SINCE)
+				&& this.properties.getPaths().stream()
+						.anyMatch(pattern -> this.pathMatcher.match(pattern, request.getPath().value()));
+	}
+	
+	private void count(final String result) {
+		this.meterRegistry.counter("gateway.coalescing", "result", result).increment();
+	}
+	
+	private final class SharingResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final String key;
+		private final Sinks.One<BufferedResponse> sink;
+		
+		private SharingResponseDecorator(final ServerHttpResponse delegate, final String key, 
+				final Sinks.One<BufferedResponse> sink) {
+			super(delegate);
+			this.key = key;
+			this.sink = sink;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			
+			if (this.getStatusCode() != HttpStatus.OK) {
+				inFlight.remove(this.key, this.sink);
+				this.sink.tryEmitEmpty();
+				return super.writeWith(body);
+			}
+			
+			return BufferedResponse.read(body)
+					.flatMap(bytes -> {
+						inFlight.remove(this.key, this.sink);
+						this.sink.tryEmitValue(BufferedResponse.of(this.getDelegate(), bytes));
+						return super.writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+					});
+		}
+		
+		@Override
+		public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			return this.writeWith(Flux.from(body).flatMapSequential(Function.identity()));
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,223 @@
+package com.selimhorri.app.config.filter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves anonymous GETs on the configured paths from a bounded in-memory store
+ * keyed by path and query. Cache-Control is honoured both ways: requests with
+ * no-store bypass the store and no-cache forces a refresh, while responses
+ * marked no-store, no-cache or private are never kept and a shorter max-age
+ * overrides the configured ttl.
+ */
+@Component
+@Slf4j
+public class ResponseCacheGlobalFilter implements GlobalFilter, Ordered {
+	
+	public static final String X_CACHE = "X-Cache";
+	public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+	
+	private final ResponseCacheProperties properties;
+	private final Cache<String, CachedResponse> responses;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	
+	public ResponseCacheGlobalFilter(final ResponseCacheProperties properties) {
+		this.properties = properties;
+		this.responses = Caffeine.newBuilder()
+				.maximumSize(properties.getMaximumSize())
+				.expireAfterWrite(properties.getTtl())
+				.build();
+	}
+	
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final var request = exchange.getRequest();
+		if (!this.isCacheable(request))
+			return chain.filter(exchange);
+		
+		final var requestDirectives = directives(request.getHeaders().getCacheControl());
+		if (requestDirectives.containsKey("no-store"))
+			return chain.filter(exchange);
+		
+		final var key = key(request);
+		if (!requestDirectives.containsKey("no-cache") && !"0".equals(requestDirectives.get("max-age"))) {
+			final var cached = this.responses.getIfPresent(key);
+			if (cached != null && cached.isFresh())
+				return this.writeCached(exchange, cached);
+		}
+		
+		return chain.filter(exchange.mutate()
+				.response(new CachingResponseDecorator(exchange.getResponse(), key))
+				.build());
+	}
+	
+	private boolean isCacheable(final ServerHttpRequest request) {
+		return this.properties.isEnabled()
+				&& request.getMethod() == HttpMethod.GET
+				&& !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+				&& this.properties.getPaths().stream()
+						.anyMatch(pattern -> this.pathMatcher.match(pattern, request.getPath().value()));
+	}
+	
+	private Mono<Void> writeCached(final ServerWebExchange exchange, final CachedResponse cached) {
+		
+		final var response = exchange.getResponse();
+		response.getHeaders().set(HttpHeaders.AGE, String.valueOf(cached.getAge().toSeconds()));
+		response.getHeaders().set(X_CACHE, "HIT");
+		
+		final var eTag = cached.getResponse().getHeaders().getETag();
+		if (eTag != null && exchange.getRequest().getHeaders().getIfNoneMatch().contains(eTag)) {
+			response.getHeaders().putAll(cached.getResponse().getHeaders());
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+		
+		return cached.getResponse().writeTo(response);
+	}
+	
+	private static String key(final ServerHttpRequest request) {
+		final var query = request.getURI().getRawQuery();
+		return query == null ? request.getPath().value() : request.getPath().value() + "?" + query;
+	}
+	
+	private static Map<String, String> directives(final String cacheControl) {
+		if (cacheControl == null || cacheControl.isBlank())
+			return Map.of();
+		return Arrays.stream(cacheControl.split(","))
+				.map(String::strip)
+				.filter(directive -> !directive.isEmpty())
+				.map(directive -> directive.split("=", 2))
+				.collect(Collectors.toMap(
+						parts -> parts[0].toLowerCase(),
+						parts -> parts.length > 1 ? parts[1].replace("\"", "") : "",
+						(first, second) -> first));
+	}
+	
+	/**
+	 * Freshness granted by the upstream response, capped by the configured ttl;
+	 * null when the response must not be stored at all.
+	 */
+	private Duration freshness(final HttpHeaders headers) {
+		
+		if (headers.containsKey(HttpHeaders.SET_COOKIE))
+			return null;
+		
+		final var responseDirectives = directives(headers.getCacheControl());
+		if (responseDirectives.containsKey("no-store")
+				|| responseDirectives.containsKey("no-cache")
+				|| responseDirectives.containsKey("private"))
+			return null;
+		
+		final var maxAge = responseDirectives.getOrDefault("s-maxage", responseDirectives.get("max-age"));
+		if (maxAge == null)
+			return this.properties.getTtl();
+		try {
+			final var upstream = Duration.ofSeconds(Long.parseLong(maxAge));
+			return upstream.compareTo(this.properties.getTtl()) < 0 ? upstream : this.properties.getTtl();
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+	
+	private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final String key;
+		
+		private CachingResponseDecorator(final ServerHttpResponse delegate, final String key) {
+			super(delegate);
+			this.key = key;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			
+			final var freshness = this.getStatusCode() == HttpStatus.OK ? freshness(this.getHeaders()) : null;
+			if (freshness == null || freshness.isZero() || freshness.isNegative())
+				return super.writeWith(body);
+			
+			return BufferedResponse.read(body)
+					.flatMap(bytes -> {
+						if (bytes.length <= properties.getMaximumBodySize().toBytes()) {
+							responses.put(this.key, new CachedResponse(BufferedResponse.of(this.getDelegate(), bytes), 
+									Instant.now(), Instant.now().plus(freshness)));
+							log.debug("*** ResponseCacheGlobalFilter; stored {} for {} *", this.key, freshness);
+						}
+						this.getHeaders().set(X_CACHE, "MISS");
+						return super.writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+					});
+		}
+		
+		@Override
+		public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+			return this.writeWith(Flux.from(body).flatMapSequential(Function.identity()));
+		}
+		
+	}
+	
+	@Getter
+	@RequiredArgsConstructor
+	private static final class CachedResponse {
+		
+		private final BufferedResponse response;
+		private final Instant storedAt;
+		private final Instant expiresAt;
+		
+		private boolean isFresh() {
+			return Instant.now().isBefore(this.expiresAt);
+		}
+		
+		private Duration getAge() {
+			return Duration.between(this.storedAt, Instant.now());
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
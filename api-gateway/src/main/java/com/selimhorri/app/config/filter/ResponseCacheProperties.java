@@ -0,0 +1,42 @@
+package com.selimhorri.app.config.filter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.gateway.response-cache")
+@Data
+public class ResponseCacheProperties {
+	
+	private boolean enabled = true;
+	
+	/**
+	 * Ant-style request paths whose GET responses may be cached.
+	 */
+	private List<String> paths = new ArrayList<>();
+	
+	/**
+	 * Upper bound of an entry's freshness; a smaller upstream max-age wins.
+	 */
+	private Duration ttl = Duration.ofSeconds(30);
+	
+	private long maximumSize = 10_000;
+	
+	private DataSize maximumBodySize = DataSize.ofKilobytes(512);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,134 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.validation.constraints.Min;
+
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Token-bucket {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter} 
+ * for the {@code RequestRateLimiter} route filter, kept in local memory instead 
+ * of Redis. Buckets are keyed by route and client, refilled lazily on access and 
+ * updated with compare-and-set, so concurrent requests never block each other; 
+ * idle buckets are evicted. Decisions are counted as {@code gateway.rate.limit}.
+ */
+@Component
+@Slf4j
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	
+	private static final int MAXIMUM_BUCKETS = 100_000;
+	private static final Duration IDLE_BUCKET_EXPIRY = Duration.ofMinutes(10);
+	
+	private final Cache<String, AtomicReference<Bucket>> buckets = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_BUCKETS)
+			.expireAfterAccess(IDLE_BUCKET_EXPIRY)
+			.build();
+	
+	private final MeterRegistry meterRegistry;
+	
+	public InMemoryRateLimiter(final ConfigurationService configurationService, final MeterRegistry meterRegistry) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		
+		final var config = this.getConfig().get(routeId);
+		if (config == null)
+			throw new IllegalArgumentException("No Configuration found for route " + routeId);
+		
+		final var bucket = this.buckets.get(routeId + ":" + id, 
+				key -> new AtomicReference<>(new Bucket(config.getBurstCapacity(), System.nanoTime())));
+		final var now = System.nanoTime();
+		
+		Bucket current;
+		Bucket next;
+		boolean allowed;
+		do {
+			current = bucket.get();
+			final double refilled = current.refill(now, config);
+			allowed = refilled >= config.getRequestedTokens();
+			next = new Bucket(allowed ? refilled - config.getRequestedTokens() : refilled, Math.max(now, current.getTimestamp()));
+		} while (!bucket.compareAndSet(current, next));
+		
+		this.meterRegistry.counter("gateway.rate.limit", "route", routeId, "result", allowed ? "allowed" : "rejected")
+				.increment();
+		if (!allowed)
+			log.debug("*** InMemoryRateLimiter; rejected {} on route {} *", id, routeId);
+		
+		return Mono.just(new Response(allowed, Map.of(
+				REMAINING_HEADER, String.valueOf((long) next.getTokens()),
+				REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+				BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()))));
+	}
+	
+	@Getter
+	@RequiredArgsConstructor
+	private static final class Bucket {
+		
+		private final double tokens;
+		private final long timestamp;
+		
+		private double refill(final long now, final Config config) {
+			final double elapsedSeconds = Math.max(0L, now - this.timestamp) / 1_000_000_000d;
+			return Math.min(config.getBurstCapacity(), this.tokens + elapsedSeconds * config.getReplenishRate());
+		}
+		
+	}
+	
+	@Validated
+	@Data
+	public static class Config {
+		
+		/**
+		 * Tokens added to a client's bucket per second.
+		 */
+		@Min(1)
+		private int replenishRate;
+		
+		/**
+		 * Maximum tokens a bucket holds, i.e. the largest tolerated burst.
+		 */
+		@Min(1)
+		private int burstCapacity = 1;
+		
+		@Min(1)
+		private int requestedTokens = 1;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
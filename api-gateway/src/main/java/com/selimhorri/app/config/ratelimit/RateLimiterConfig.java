@@ -0,0 +1,54 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.publisher.Mono;
+
+@Configuration
+public class RateLimiterConfig {
+	
+	/**
+	 * Identifies the calling client by the peer address of the connection. Behind
+	 * {@code app.gateway.rate-limit.trusted-proxies} load balancers the client is the
+	 * X-Forwarded-For hop appended by the outermost of them, counted from the right;
+	 * anything left of it is supplied by the client and never used as a key.
+	 */
+	@Bean
+	public KeyResolver clientKeyResolver(
+			@Value("${app.gateway.rate-limit.trusted-proxies:0}") final int trustedProxies) {
+		return exchange -> Mono.justOrEmpty(Optional.of(trustedProxies)
+				.filter(hops -> hops > 0)
+				.map(hops -> exchange.getRequest().getHeaders().getOrEmpty("X-Forwarded-For").stream()
+						.flatMap(forwardedFor -> Arrays.stream(forwardedFor.split(",")))
+						.map(String::strip)
+						.filter(hop -> !hop.isEmpty())
+						.collect(Collectors.toUnmodifiableList()))
+				.filter(forwardedFor -> forwardedFor.size() >= trustedProxies)
+				.map(forwardedFor -> forwardedFor.get(forwardedFor.size() - trustedProxies))
+				.or(() -> Optional.ofNullable(exchange.getRequest().getRemoteAddress())
+						.map(InetSocketAddress::getAddress)
+						.map(InetAddress::getHostAddress)));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,116 @@
+package com.selimhorri.app.unit.filter;
+
+import com.selimhorri.app.config.filter.CoalescingProperties;
+import com.selimhorri.app.config.filter.RequestCoalescingGlobalFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCoalescingGlobalFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RequestCoalescingGlobalFilter filter;
+
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        CoalescingProperties properties = new CoalescingProperties();
+        properties.setPaths(List.of("/product-service/api/products/**"));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestCoalescingGlobalFilter(properties, meterRegistry);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void filter_ShouldReplayLeaderResponseToConcurrentFollower() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "{\"productId\":1}");
+        MockServerWebExchange leader = get("/product-service/api/products/1");
+        MockServerWebExchange follower = get("/product-service/api/products/1");
+
+        Mono.when(filter.filter(leader, chain), filter.filter(follower, chain)).block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+        assertEquals("{\"productId\":1}", follower.getResponse().getBodyAsString().block());
+        assertEquals(1.0, count("leader"));
+        assertEquals(1.0, count("collapsed"));
+    }
+
+    @Test
+    void filter_ShouldLetFollowerFallBackWhenLeaderIsNotOk() {
+        GatewayFilterChain chain = upstream(HttpStatus.SERVICE_UNAVAILABLE, "unavailable");
+        MockServerWebExchange leader = get("/product-service/api/products/1");
+        MockServerWebExchange follower = get("/product-service/api/products/1");
+
+        Mono.when(filter.filter(leader, chain), filter.filter(follower, chain)).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(1.0, count("fallback"));
+        assertEquals(0.0, count("collapsed"));
+    }
+
+    @Test
+    void filter_ShouldLetFollowerFallBackWhenLeaderAnswersWithoutBody() {
+        GatewayFilterChain chain = exchange -> Mono.delay(Duration.ofMillis(50))
+                .then(Mono.defer(() -> {
+                    upstreamCalls.incrementAndGet();
+                    exchange.getResponse().setStatusCode(HttpStatus.NOT_MODIFIED);
+                    return exchange.getResponse().setComplete();
+                }));
+        MockServerWebExchange leader = get("/product-service/api/products/1");
+        MockServerWebExchange follower = get("/product-service/api/products/1");
+
+        Mono.when(filter.filter(leader, chain), filter.filter(follower, chain)).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(1.0, count("fallback"));
+    }
+
+    @Test
+    void filter_ShouldNotCoalesceConditionalRequests() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, "{\"productId\":1}");
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/product-service/api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""));
+        MockServerWebExchange plain = get("/product-service/api/products/1");
+
+        Mono.when(filter.filter(conditional, chain), filter.filter(plain, chain)).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(0.0, count("collapsed"));
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status, String body) {
+        return exchange -> Mono.delay(Duration.ofMillis(50))
+                .then(Mono.defer(() -> {
+                    upstreamCalls.incrementAndGet();
+                    exchange.getResponse().setStatusCode(status);
+                    return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                            .wrap(body.getBytes(StandardCharsets.UTF_8))));
+                }));
+    }
+
+    private static MockServerWebExchange get(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("gateway.coalescing", "result", result).count();
+    }
+}
@@ -0,0 +1,104 @@
+package com.selimhorri.app.unit.filter;
+
+import com.selimhorri.app.config.filter.ResponseCacheGlobalFilter;
+import com.selimhorri.app.config.filter.ResponseCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResponseCacheGlobalFilterTest {
+
+    private ResponseCacheGlobalFilter filter;
+
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setPaths(List.of("/product-service/api/products/**"));
+        filter = new ResponseCacheGlobalFilter(properties);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void filter_ShouldServeRepeatedGetFromCache() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+
+        MockServerWebExchange miss = get("/product-service/api/products/1");
+        filter.filter(miss, chain).block(Duration.ofSeconds(5));
+        MockServerWebExchange hit = get("/product-service/api/products/1");
+        filter.filter(hit, chain).block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("MISS", miss.getResponse().getHeaders().getFirst(ResponseCacheGlobalFilter.X_CACHE));
+        assertEquals("HIT", hit.getResponse().getHeaders().getFirst(ResponseCacheGlobalFilter.X_CACHE));
+        assertEquals("{\"productId\":1}", hit.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void filter_ShouldAnswerMatchingConditionalHitWithNotModified() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+        filter.filter(get("/product-service/api/products/1"), chain).block(Duration.ofSeconds(5));
+
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/product-service/api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""));
+        filter.filter(conditional, chain).block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_ShouldNotStoreNoStoreOrErrorResponses() {
+        filter.filter(get("/product-service/api/products/1"), upstream(HttpStatus.OK, CacheControl.noStore()))
+                .block(Duration.ofSeconds(5));
+        filter.filter(get("/product-service/api/products/1"), upstream(HttpStatus.SERVICE_UNAVAILABLE, null))
+                .block(Duration.ofSeconds(5));
+        filter.filter(get("/product-service/api/products/1"), upstream(HttpStatus.OK, null))
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    void filter_ShouldBypassStoreForNoCacheRequest() {
+        GatewayFilterChain chain = upstream(HttpStatus.OK, null);
+        filter.filter(get("/product-service/api/products/1"), chain).block(Duration.ofSeconds(5));
+
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest
+                .get("/product-service/api/products/1")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")), chain).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status, CacheControl cacheControl) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(status);
+            exchange.getResponse().getHeaders().setETag("\"1-0\"");
+            if (cacheControl != null)
+                exchange.getResponse().getHeaders().setCacheControl(cacheControl);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap("{\"productId\":1}".getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static MockServerWebExchange get(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+}
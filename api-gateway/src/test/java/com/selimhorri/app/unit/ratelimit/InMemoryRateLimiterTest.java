@@ -0,0 +1,75 @@
+package com.selimhorri.app.unit.ratelimit;
+
+import com.selimhorri.app.config.ratelimit.InMemoryRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class InMemoryRateLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InMemoryRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new InMemoryRateLimiter(mock(ConfigurationService.class), meterRegistry);
+        InMemoryRateLimiter.Config config = new InMemoryRateLimiter.Config();
+        config.setReplenishRate(1);
+        config.setBurstCapacity(5);
+        rateLimiter.getConfig().put("products", config);
+    }
+
+    @Test
+    void isAllowed_ShouldRejectOnceBurstIsSpent() {
+        for (int i = 0; i < 5; i++)
+            assertTrue(rateLimiter.isAllowed("products", "client").block().isAllowed());
+
+        InMemoryRateLimiter.Response rejected = rateLimiter.isAllowed("products", "client").block();
+
+        assertFalse(rejected.isAllowed());
+        assertEquals("0", rejected.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+        assertEquals(1.0, meterRegistry.counter("gateway.rate.limit", "route", "products", "result", "rejected").count());
+    }
+
+    @Test
+    void isAllowed_ShouldKeepSeparateBucketsPerClient() {
+        for (int i = 0; i < 5; i++)
+            rateLimiter.isAllowed("products", "client").block();
+
+        assertTrue(rateLimiter.isAllowed("products", "other-client").block().isAllowed());
+    }
+
+    @Test
+    void isAllowed_ShouldNeverAdmitMoreThanBurstUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            attempts.add(() -> rateLimiter.isAllowed("products", "client").block().isAllowed());
+
+        long allowed = 0;
+        for (Future<Boolean> attempt : executor.invokeAll(attempts))
+            if (attempt.get())
+                allowed++;
+        executor.shutdown();
+
+        assertTrue(allowed >= 5 && allowed <= 6, "allowed " + allowed);
+    }
+
+    @Test
+    void isAllowed_ShouldFailForUnknownRoute() {
+        assertThrows(IllegalArgumentException.class, () -> rateLimiter.isAllowed("unknown", "client"));
+    }
+}
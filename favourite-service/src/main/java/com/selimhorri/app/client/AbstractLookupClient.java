@@ -0,0 +1,115 @@
+package com.selimhorri.app.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves remote DTOs by id, one at a time or through the batched
+ * {@code /ids} endpoint so callers can join a whole page in memory.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public abstract class AbstractLookupClient<T> {
+	
+	private static final int REVALIDATION_CACHE_SIZE = 10_000;
+	
+	private final Cache<Integer, ResponseEntity<T>> revalidationCache = Caffeine.newBuilder()
+			.maximumSize(REVALIDATION_CACHE_SIZE)
+			.build();
+	
+	private final RestTemplate restTemplate;
+	private final RequestLookupMemo requestLookupMemo;
+	private final String apiUrl;
+	private final String idsParam;
+	private final Class<T> type;
+	private final ParameterizedTypeReference<DtoCollectionResponse<T>> collectionType;
+	private final Function<T, Integer> idExtractor;
+	private final int batchSize;
+	
+	public T findById(final Integer id) {
+		return this.requestLookupMemo.computeIfAbsent(this.type, id, 
+				() -> this.fetchById(id));
+	}
+	
+	/**
+	 * Revalidates a previously seen representation with If-None-Match, so an
+	 * unchanged entity costs a 304 without a body instead of a full payload.
+	 */
+	private T fetchById(final Integer id) {
+		
+		final var cached = this.revalidationCache.getIfPresent(id);
+		final var headers = new HttpHeaders();
+		if (cached != null)
+			headers.setIfNoneMatch(cached.getHeaders().getETag());
+		
+		final var response = this.restTemplate.exchange(this.apiUrl + "/" + id, 
+				HttpMethod.GET, new HttpEntity<>(headers), this.type);
+		if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null)
+			return cached.getBody();
+		
+		if (response.getHeaders().getETag() != null && response.getBody() != null)
+			this.revalidationCache.put(id, response);
+		else
+			this.revalidationCache.invalidate(id);
+		
+		return response.getBody();
+	}
+	
+	/**
+	 * Fetches every distinct id not already resolved in this request, in
+	 * chunks of {@code batchSize}; ids unknown to the remote service are
+	 * simply absent from the returned map.
+	 */
+	public Map<Integer, T> findAllByIds(final Collection<Integer> ids) {
+		return this.requestLookupMemo.computeAllIfAbsent(this.type, ids.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet()), this::fetchAllByIds);
+	}
+	
+	private Map<Integer, T> fetchAllByIds(final Collection<Integer> ids) {
+		
+		final List<Integer> distinctIds = List.copyOf(ids);
+		final Map<Integer, T> found = new HashMap<>(distinctIds.size() * 2);
+		
+		for (int from = 0; from < distinctIds.size(); from += this.batchSize) {
+			final var batch = distinctIds.subList(from, Math.min(from + this.batchSize, distinctIds.size()));
+			log.info("*** {} List, client; fetch batch of {} ids *", this.type.getSimpleName(), batch.size());
+			final var response = this.restTemplate.exchange(
+					UriComponentsBuilder.fromHttpUrl(this.apiUrl + "/ids")
+						.queryParam(this.idsParam, batch.toArray())
+						.toUriString(), 
+					HttpMethod.GET, null, this.collectionType)
+				.getBody();
+			if (response != null && response.getCollection() != null)
+				response.getCollection()
+						.forEach(dto -> found.put(this.idExtractor.apply(dto), dto));
+		}
+		
+		return found;
+	}
+	
+}
+
+
+
@@ -0,0 +1,24 @@
+package com.selimhorri.app.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+@Component
+public class ProductClient extends AbstractLookupClient<ProductDto> {
+	
+	public ProductClient(final RestTemplate restTemplate, final RequestLookupMemo requestLookupMemo, 
+			@Value("${app.client.batch-size:200}") final int batchSize) {
+		super(restTemplate, requestLookupMemo, AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, "productIds", ProductDto.class, 
+				new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, ProductDto::getProductId, batchSize);
+	}
+	
+}
+
+
+
@@ -0,0 +1,24 @@
+package com.selimhorri.app.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+@Component
+public class UserClient extends AbstractLookupClient<UserDto> {
+	
+	public UserClient(final RestTemplate restTemplate, final RequestLookupMemo requestLookupMemo, 
+			@Value("${app.client.batch-size:200}") final int batchSize) {
+		super(restTemplate, requestLookupMemo, AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, "userIds", UserDto.class, 
+				new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, UserDto::getUserId, batchSize);
+	}
+	
+}
+
+
+
@@ -0,0 +1,34 @@
+package com.selimhorri.app.dto.response.collection;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class DtoPageResponse<T> {
+	
+	private List<T> collection;
+	
+	@JsonInclude(Include.NON_NULL)
+	private String next;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class MalformedCursorException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public MalformedCursorException() {
+		super();
+	}
+	
+	public MalformedCursorException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public MalformedCursorException(String message) {
+		super(message);
+	}
+	
+	public MalformedCursorException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
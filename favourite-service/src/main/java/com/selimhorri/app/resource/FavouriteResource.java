@@ -14,12 +14,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.service.FavouriteService;
 
 import lombok.RequiredArgsConstructor;
@@ -39,6 +41,14 @@ public class FavouriteResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
 	}
 	
+	@GetMapping("/page")
+	public ResponseEntity<DtoPageResponse<FavouriteDto>> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "size", defaultValue = "20") final int size) {
+		log.info("*** FavouriteDto Page, controller; fetch page of favourites *");
+		return ResponseEntity.ok(this.favouriteService.findAll(after, size));
+	}
+	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
 			@PathVariable("userId") final String userId, 
@@ -59,6 +69,20 @@ public class FavouriteResource {
 		return ResponseEntity.ok(this.favouriteService.findById(favouriteId));
 	}
 	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAllByUserId(
+			@PathVariable("userId") final String userId) {
+		log.info("*** FavouriteDto List, resource; fetch favourites by user id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAllByUserId(Integer.parseInt(userId))));
+	}
+	
+	@GetMapping("/product/{productId}")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAllByProductId(
+			@PathVariable("productId") final String productId) {
+		log.info("*** FavouriteDto List, resource; fetch favourites by product id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAllByProductId(Integer.parseInt(productId))));
+	}
+	
 	@PostMapping
 	public ResponseEntity<FavouriteDto> save(
 			@RequestBody 
@@ -4,10 +4,14 @@ import java.util.List;
 
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 
 public interface FavouriteService {
 	
 	List<FavouriteDto> findAll();
+	DtoPageResponse<FavouriteDto> findAll(final String after, final int size);
+	List<FavouriteDto> findAllByUserId(final Integer userId);
+	List<FavouriteDto> findAllByProductId(final Integer productId);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
 	FavouriteDto update(final FavouriteDto favouriteDto);
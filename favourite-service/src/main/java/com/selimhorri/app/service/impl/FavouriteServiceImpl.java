@@ -1,20 +1,27 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.client.ProductClient;
+import com.selimhorri.app.client.UserClient;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.FavouriteService;
 
@@ -28,25 +35,55 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
-	private final RestTemplate restTemplate;
+	private final UserClient userClient;
+	private final ProductClient productClient;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoPageResponse<FavouriteDto> findAll(final String after, final int size) {
+		log.info("*** FavouriteDto Page, service; fetch page of favourites *");
+		final var pageable = PageMappingHelper.pageable(size, "userId", "productId", "likeDate");
+		final var formatter = DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT);
+		final List<Favourite> favourites;
+		if (after == null)
+			favourites = this.favouriteRepository.findAllBy(pageable);
+		else {
+			final var cursor = PageMappingHelper.decodeCursor(after, 3, key -> new FavouriteId(
+					Integer.parseInt(key[0]), Integer.parseInt(key[1]), LocalDateTime.parse(key[2], formatter)));
+			favourites = this.favouriteRepository.findAllAfter(cursor.getUserId(), 
+					cursor.getProductId(), cursor.getLikeDate(), pageable);
+		}
+		final var page = PageMappingHelper.map(favourites, size, FavouriteMappingHelper::map, 
+				f -> PageMappingHelper.encodeCursor(f.getUserId(), f.getProductId(), f.getLikeDate().format(formatter)));
+		this.enrich(page.getCollection());
+		return page;
+	}
+	
+	@Override
+	public List<FavouriteDto> findAllByUserId(final Integer userId) {
+		log.info("*** FavouriteDto List, service; fetch favourites by user id *");
+		return this.enrich(this.favouriteRepository.findAllByUserId(userId)
+				.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public List<FavouriteDto> findAllByProductId(final Integer productId) {
+		log.info("*** FavouriteDto List, service; fetch favourites by product id *");
+		return this.enrich(this.favouriteRepository.findAllByProductId(productId)
+				.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
@@ -55,18 +92,35 @@ public class FavouriteServiceImpl implements FavouriteService {
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					f.setUserDto(this.userClient.findById(f.getUserId()));
+					f.setProductDto(this.productClient.findById(f.getProductId()));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
 						String.format("Favourite with id: [%s] not found!", favouriteId)));
 	}
 	
+	/**
+	 * Resolves users and products for the whole list with a few batched
+	 * calls, instead of two remote calls per favourite.
+	 */
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		
+		final Map<Integer, UserDto> userDtos = this.userClient.findAllByIds(favouriteDtos.stream()
+				.map(FavouriteDto::getUserId)
+				.collect(Collectors.toUnmodifiableSet()));
+		final Map<Integer, ProductDto> productDtos = this.productClient.findAllByIds(favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.collect(Collectors.toUnmodifiableSet()));
+		
+		favouriteDtos.forEach(f -> {
+			f.setUserDto(userDtos.getOrDefault(f.getUserId(), f.getUserDto()));
+			f.setProductDto(productDtos.getOrDefault(f.getProductId(), f.getProductDto()));
+		});
+		
+		return favouriteDtos;
+	}
+	
 	@Override
 	public FavouriteDto save(final FavouriteDto favouriteDto) {
 		return FavouriteMappingHelper.map(this.favouriteRepository
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_favourites_product_id
+  ON favourites (product_id);
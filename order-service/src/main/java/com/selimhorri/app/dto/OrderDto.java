@@ -38,6 +38,7 @@ public class OrderDto implements Serializable {
 	private LocalDateTime orderDate;
 	private String orderDesc;
 	private Double orderFee;
+	private Integer version;
 	
 	@JsonProperty("cart")
 	@JsonInclude(Include.NON_NULL)
@@ -3,6 +3,7 @@ package com.selimhorri.app.exception;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -60,6 +62,36 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = VersionRequiredException.class)
+	public ResponseEntity<ExceptionMsg> handleVersionRequiredException(final VersionRequiredException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle missing version*\n");
+		final var preconditionRequired = HttpStatus.PRECONDITION_REQUIRED;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("#### " + e.getMessage() + "! ####")
+					.httpStatus(preconditionRequired)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), preconditionRequired);
+	}
+	
+	@ExceptionHandler(value = OptimisticLockingFailureException.class)
+	public ResponseEntity<ExceptionMsg> handleOptimisticLockingFailureException(final OptimisticLockingFailureException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle concurrent update*\n");
+		final var conflict = HttpStatus.CONFLICT;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("#### " + e.getMessage() + "! ####")
+					.httpStatus(conflict)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), conflict);
+	}
+	
 	
 	
 }
@@ -0,0 +1,52 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+public interface NdjsonHelper {
+	
+	/**
+	 * Writes every element emitted by {@code producer} as one compact JSON
+	 * line as soon as it is produced, so nothing is buffered in memory.
+	 */
+	public static <T> void write(final ObjectMapper objectMapper, final OutputStream outputStream, 
+			final Consumer<Consumer<T>> producer) throws IOException {
+		
+		final var writer = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		
+		try (final var generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(null);
+			producer.accept(dto -> {
+				try {
+					writer.writeValue(generator, dto);
+					generator.writeRaw('\n');
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -13,6 +13,7 @@ public interface OrderMappingHelper {
 				.orderDate(order.getOrderDate())
 				.orderDesc(order.getOrderDesc())
 				.orderFee(order.getOrderFee())
+				.version(order.getVersion())
 				.cartDto(
 						CartDto.builder()
 							.cartId(order.getCart().getCartId())
@@ -26,7 +27,8 @@ public interface OrderMappingHelper {
 				.orderDate(orderDto.getOrderDate())
 				.orderDesc(orderDto.getOrderDesc())
 				.orderFee(orderDto.getOrderFee())
-				.cart(
+				.version(orderDto.getVersion())
+				.cart(orderDto.getCartDto() == null ? null : 
 						Cart.builder()
 							.cartId(orderDto.getCartDto().getCartId())
 							.build())
@@ -0,0 +1,55 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+
+public interface PageMappingHelper {
+	
+	public static final int MAX_PAGE_SIZE = 500;
+	
+	/**
+	 * Keyset queries fetch one row past the requested size: if it comes back
+	 * there is a next page, starting right after the last row returned.
+	 */
+	public static Pageable pageable(final int size, final String... sortProperties) {
+		return PageRequest.of(0, boundedSize(size) + 1, Sort.by(sortProperties));
+	}
+	
+	public static <E, T> DtoPageResponse<T> map(final List<E> rows, final int size, 
+			final Function<E, T> mapper, final Function<E, String> cursor) {
+		
+		final int pageSize = boundedSize(size);
+		final var page = rows.subList(0, Math.min(rows.size(), pageSize));
+		
+		return DtoPageResponse.<T>builder()
+				.collection(page.stream()
+						.map(mapper)
+						.collect(Collectors.toUnmodifiableList()))
+				.next(rows.size() > pageSize ? cursor.apply(page.get(page.size() - 1)) : null)
+				.build();
+	}
+	
+	private static int boundedSize(final int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
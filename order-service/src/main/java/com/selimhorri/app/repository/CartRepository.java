@@ -1,11 +1,16 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.Cart;
 
 public interface CartRepository extends JpaRepository<Cart, Integer> {
 	
-	
+	List<Cart> findAllBy(final Pageable pageable);
+	List<Cart> findByCartIdGreaterThan(final Integer cartId, final Pageable pageable);
+	List<Cart> findAllByUserId(final Integer userId);
 	
 }
@@ -1,11 +1,67 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "cart")
+	List<Order> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "cart")
+	Optional<Order> findById(final Integer orderId);
+	
+	@EntityGraph(attributePaths = "cart")
+	List<Order> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "cart")
+	List<Order> findByOrderIdGreaterThan(final Integer orderId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "cart")
+	List<Order> findAllByCartCartId(final Integer cartId);
+	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.EXPORT_FETCH_SIZE))
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart")
+	Stream<Order> streamAllBy();
+	
+	/**
+	 * Replaces every column of the row in one statement. The row only matches at
+	 * the given version; 0 means the order is missing or was changed in between.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Order o SET o.orderDate = :#{#order.orderDate}, o.orderDesc = :#{#order.orderDesc}, "
+			+ "o.orderFee = :#{#order.orderFee}, o.cart = :#{#order.cart}, o.version = o.version + 1, "
+			+ "o.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE o.orderId = :orderId AND o.version = :#{#order.version}")
+	int updateById(@Param("orderId") final Integer orderId, @Param("order") final Order order);
 	
+	/**
+	 * Same as {@link #updateById} but null fields keep their current value.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Order o SET o.orderDate = COALESCE(:#{#order.orderDate}, o.orderDate), "
+			+ "o.orderDesc = COALESCE(:#{#order.orderDesc}, o.orderDesc), "
+			+ "o.orderFee = COALESCE(:#{#order.orderFee}, o.orderFee), o.cart = COALESCE(:#{#order.cart}, o.cart), "
+			+ "o.version = o.version + 1, o.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE o.orderId = :orderId AND o.version = :#{#order.version}")
+	int patchById(@Param("orderId") final Integer orderId, @Param("order") final Order order);
 	
 }
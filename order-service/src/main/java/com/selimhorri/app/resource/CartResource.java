@@ -12,10 +12,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.service.CartService;
 
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,14 @@ public class CartResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
 	}
 	
+	@GetMapping("/page")
+	public ResponseEntity<DtoPageResponse<CartDto>> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "size", defaultValue = "20") final int size) {
+		log.info("*** CartDto Page, controller; fetch page of carts *");
+		return ResponseEntity.ok(this.cartService.findAll(after, size));
+	}
+	
 	@GetMapping("/{cartId}")
 	public ResponseEntity<CartDto> findById(
 			@PathVariable("cartId") 
@@ -44,6 +54,15 @@ public class CartResource {
 		return ResponseEntity.ok(this.cartService.findById(Integer.parseInt(cartId)));
 	}
 	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String userId) {
+		log.info("*** CartDto List, resource; fetch carts by user id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAllByUserId(Integer.parseInt(userId))));
+	}
+	
 	@PostMapping
 	public ResponseEntity<CartDto> save(
 			@RequestBody 
@@ -1,21 +1,30 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.helper.NdjsonHelper;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
 	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
@@ -35,6 +45,21 @@ public class OrderResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
 	}
 	
+	@GetMapping("/page")
+	public ResponseEntity<DtoPageResponse<OrderDto>> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "size", defaultValue = "20") final int size) {
+		log.info("*** OrderDto Page, controller; fetch page of orders *");
+		return ResponseEntity.ok(this.orderService.findAll(after, size));
+	}
+	
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public void exportAll(final HttpServletResponse response) throws IOException {
+		log.info("*** OrderDto Stream, resource; export all orders as NDJSON *");
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		NdjsonHelper.<OrderDto>write(this.objectMapper, response.getOutputStream(), this.orderService::streamAll);
+	}
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
@@ -44,6 +69,15 @@ public class OrderResource {
 		return ResponseEntity.ok(this.orderService.findById(Integer.parseInt(orderId)));
 	}
 	
+	@GetMapping("/cart/{cartId}")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByCartId(
+			@PathVariable("cartId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String cartId) {
+		log.info("*** OrderDto List, resource; fetch orders by cart id *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAllByCartId(Integer.parseInt(cartId))));
+	}
+	
 	@PostMapping
 	public ResponseEntity<OrderDto> save(
 			@RequestBody 
@@ -74,6 +108,18 @@ public class OrderResource {
 		return ResponseEntity.ok(this.orderService.update(Integer.parseInt(orderId), orderDto));
 	}
 	
+	@PatchMapping("/{orderId}")
+	public ResponseEntity<OrderDto> patch(
+			@PathVariable("orderId")
+			@NotBlank(message = "Input must not be blank")
+			@Valid final String orderId,
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final OrderDto orderDto) {
+		log.info("*** OrderDto, resource; patch order with orderId *");
+		return ResponseEntity.ok(this.orderService.patch(Integer.parseInt(orderId), orderDto));
+	}
+	
 	@DeleteMapping("/{orderId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("orderId") final String orderId) {
 		log.info("*** Boolean, resource; delete order by id *");
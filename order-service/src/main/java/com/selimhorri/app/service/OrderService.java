@@ -1,16 +1,22 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	void streamAll(final Consumer<OrderDto> consumer);
+	DtoPageResponse<OrderDto> findAll(final Integer after, final int size);
+	List<OrderDto> findAllByCartId(final Integer cartId);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
+	OrderDto patch(final Integer orderId, final OrderDto orderDto);
 	void deleteById(final Integer orderId);
 	
 }
@@ -11,8 +11,10 @@ import org.springframework.web.client.RestTemplate;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
 import com.selimhorri.app.service.CartService;
 
@@ -43,6 +45,38 @@ public class CartServiceImpl implements CartService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoPageResponse<CartDto> findAll(final Integer after, final int size) {
+		log.info("*** CartDto Page, service; fetch page of carts *");
+		final var pageable = PageMappingHelper.pageable(size, "cartId");
+		final var page = PageMappingHelper.map(after == null 
+				? this.cartRepository.findAllBy(pageable) 
+				: this.cartRepository.findByCartIdGreaterThan(after, pageable), 
+				size, CartMappingHelper::map, c -> String.valueOf(c.getCartId()));
+		page.getCollection().forEach(c -> c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class)));
+		return page;
+	}
+	
+	/**
+	 * Carts of a single user; they all share the owner, so the user is fetched
+	 * once instead of once per cart.
+	 */
+	@Override
+	public List<CartDto> findAllByUserId(final Integer userId) {
+		log.info("*** CartDto List, service; fetch carts by user id *");
+		final var cartDtos = this.cartRepository.findAllByUserId(userId)
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		if (!cartDtos.isEmpty()) {
+			final var userDto = this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+					.USER_SERVICE_API_URL + "/" + userId, UserDto.class);
+			cartDtos.forEach(c -> c.setUserDto(userDto));
+		}
+		return cartDtos;
+	}
+	
 	@Override
 	public CartDto findById(final Integer cartId) {
 		log.info("*** CartDto, service; fetch cart by id *");
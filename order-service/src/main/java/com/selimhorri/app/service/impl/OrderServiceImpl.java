@@ -1,15 +1,22 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 import com.selimhorri.app.helper.OrderMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
 
@@ -23,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
 	public List<OrderDto> findAll() {
@@ -34,6 +42,44 @@ public class OrderServiceImpl implements OrderService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	/**
+	 * Streams the whole table inside a read-only transaction, clearing the
+	 * persistence context every fetch batch so memory stays flat.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		try (final var orders = this.orderRepository.streamAllBy()) {
+			final var iterator = orders.iterator();
+			for (int i = 1; iterator.hasNext(); i++) {
+				consumer.accept(OrderMappingHelper.map(iterator.next()));
+				if (i % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
+	@Override
+	public DtoPageResponse<OrderDto> findAll(final Integer after, final int size) {
+		log.info("*** OrderDto Page, service; fetch page of orders *");
+		final var pageable = PageMappingHelper.pageable(size, "orderId");
+		return PageMappingHelper.map(after == null 
+				? this.orderRepository.findAllBy(pageable) 
+				: this.orderRepository.findByOrderIdGreaterThan(after, pageable), 
+				size, OrderMappingHelper::map, o -> String.valueOf(o.getOrderId()));
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<OrderDto> findAllByCartId(final Integer cartId) {
+		log.info("*** OrderDto List, service; fetch orders by cart id *");
+		return this.orderRepository.findAllByCartCartId(cartId)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -53,15 +99,32 @@ public class OrderServiceImpl implements OrderService {
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
-		return OrderMappingHelper.map(this.orderRepository
-				.save(OrderMappingHelper.map(orderDto)));
+		return this.update(orderDto.getOrderId(), orderDto);
 	}
 	
 	@Override
 	public OrderDto update(final Integer orderId, final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order with orderId *");
-		return OrderMappingHelper.map(this.orderRepository
-				.save(OrderMappingHelper.map(this.findById(orderId))));
+		this.requireVersion(orderId, orderDto.getVersion());
+		this.afterUpdate(orderId, orderDto.getVersion(), 
+				this.orderRepository.updateById(orderId, OrderMappingHelper.map(orderDto)));
+		return OrderDto.builder()
+				.orderId(orderId)
+				.orderDate(orderDto.getOrderDate())
+				.orderDesc(orderDto.getOrderDesc())
+				.orderFee(orderDto.getOrderFee())
+				.version(orderDto.getVersion() + 1)
+				.cartDto(orderDto.getCartDto())
+				.build();
+	}
+	
+	@Override
+	public OrderDto patch(final Integer orderId, final OrderDto orderDto) {
+		log.info("*** OrderDto, service; patch order with orderId *");
+		this.requireVersion(orderId, orderDto.getVersion());
+		this.afterUpdate(orderId, orderDto.getVersion(), 
+				this.orderRepository.patchById(orderId, OrderMappingHelper.map(orderDto)));
+		return this.findById(orderId);
 	}
 	
 	@Override
@@ -70,6 +133,26 @@ public class OrderServiceImpl implements OrderService {
 		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
 	}
 	
+	private void requireVersion(final Integer orderId, final Integer version) {
+		if (version == null)
+			throw new VersionRequiredException(String.format(
+					"Order with id: %d can only be updated at the version it was read at", orderId));
+	}
+	
+	/**
+	 * Updates are a single versioned statement, so no row means either a missing
+	 * order or a stale version; only then is the table asked which one it was.
+	 * A full update already knows every column of the new row, a patch reads the
+	 * merged row back for the response.
+	 */
+	private void afterUpdate(final Integer orderId, final Integer version, final int updated) {
+		if (updated == 0 && (orderId == null || !this.orderRepository.existsById(orderId)))
+			throw new OrderNotFoundException(String.format("Order with id: %d not found", orderId));
+		if (updated == 0)
+			throw new ObjectOptimisticLockingFailureException(String.format(
+					"Order with id: %d is no longer at version %d", orderId, version), null);
+	}
+	
 	
 	
 }
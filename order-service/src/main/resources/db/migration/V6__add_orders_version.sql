@@ -0,0 +1,3 @@
+
+ALTER TABLE orders
+  ADD COLUMN version INT(11) NOT NULL DEFAULT 0;
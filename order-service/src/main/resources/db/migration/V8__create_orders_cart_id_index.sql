@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_orders_cart_id
+  ON orders (cart_id);
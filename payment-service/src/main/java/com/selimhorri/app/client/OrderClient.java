@@ -0,0 +1,27 @@
+package com.selimhorri.app.client;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OrderClient {
+	
+	private final RestTemplate restTemplate;
+	private final RequestLookupMemo requestLookupMemo;
+	
+	public OrderDto findById(final Integer orderId) {
+		return this.requestLookupMemo.computeIfAbsent(OrderDto.class, orderId, 
+				() -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class));
+	}
+	
+}
+
+
+
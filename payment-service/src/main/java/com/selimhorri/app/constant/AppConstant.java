@@ -11,6 +11,13 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	/**
+	 * Rows per round trip of the export cursor. MySQL Connector/J only honours a
+	 * fetch size with {@code useCursorFetch=true} on the JDBC url, otherwise it
+	 * buffers the whole result set before the first row is read.
+	 */
+	public static final int EXPORT_FETCH_SIZE = 500;
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
@@ -1,18 +1,21 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.client.OrderClient;
 import com.selimhorri.app.constant.AppConstant;
-import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
 
@@ -26,7 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
-	private final RestTemplate restTemplate;
+	private final EntityManager entityManager;
+	private final OrderClient orderClient;
 	
 	@Override
 	public List<PaymentDto> findAll() {
@@ -35,22 +39,64 @@ public class PaymentServiceImpl implements PaymentService {
 				.stream()
 					.map(PaymentMappingHelper::map)
 					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+						p.setOrderDto(this.orderClient.findById(p.getOrderDto().getOrderId()));
 						return p;
 					})
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	/**
+	 * Streams the whole table inside a read-only transaction, clearing the
+	 * persistence context every fetch batch so memory stays flat.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		try (final var payments = this.paymentRepository.streamAllBy()) {
+			final var iterator = payments.iterator();
+			for (int i = 1; iterator.hasNext(); i++) {
+				consumer.accept(PaymentMappingHelper.map(iterator.next()));
+				if (i % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
+	@Override
+	public DtoPageResponse<PaymentDto> findAll(final Integer after, final int size) {
+		log.info("*** PaymentDto Page, service; fetch page of payments *");
+		final var pageable = PageMappingHelper.pageable(size, "paymentId");
+		final var page = PageMappingHelper.map(after == null 
+				? this.paymentRepository.findAllBy(pageable) 
+				: this.paymentRepository.findByPaymentIdGreaterThan(after, pageable), 
+				size, PaymentMappingHelper::map, p -> String.valueOf(p.getPaymentId()));
+		page.getCollection().forEach(p -> p.setOrderDto(this.orderClient.findById(p.getOrderDto().getOrderId())));
+		return page;
+	}
+	
+	/**
+	 * Payments of a single order without the order lookup; callers composing
+	 * an order view already hold the order.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<PaymentDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** PaymentDto List, service; fetch payments by order id *");
+		return this.paymentRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
 				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+					p.setOrderDto(this.orderClient.findById(p.getOrderDto().getOrderId()));
 					return p;
 				})
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
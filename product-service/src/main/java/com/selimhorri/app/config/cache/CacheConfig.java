@@ -0,0 +1,54 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Product and category caches are Caffeine-backed and bounded through
+ * {@code spring.cache.caffeine.spec}; since both are declared up front,
+ * their hit/miss statistics are published under {@code cache.gets}.
+ */
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfig {
+	
+	@Bean
+	@ConditionalOnProperty(name = "app.cache.warm-up.enabled", havingValue = "true")
+	public ApplicationRunner productCacheWarmUp(final CacheManager cacheManager, 
+			final ProductRepository productRepository, 
+			@Value("${app.cache.warm-up.size:1000}") final int size) {
+		return args -> {
+			final var cache = cacheManager.getCache(AppConstant.CacheNames.PRODUCTS);
+			final var products = productRepository.findAllBy(PageRequest.of(0, size, Sort.by("productId")));
+			products.forEach(p -> cache.put(p.getProductId(), ProductMappingHelper.map(p)));
+			log.info("*** CacheConfig; warmed up {} products *", products.size());
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
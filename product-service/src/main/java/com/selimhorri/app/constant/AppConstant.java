@@ -11,6 +11,24 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class CacheNames {
+		
+		public static final String PRODUCTS = "products";
+		public static final String CATEGORIES = "categories";
+		
+	}
+	
+	/**
+	 * Hibernate second-level cache regions, declared in {@code application.conf}.
+	 */
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class CacheRegions {
+		
+		public static final String CATEGORIES = "categories-region";
+		
+	}
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
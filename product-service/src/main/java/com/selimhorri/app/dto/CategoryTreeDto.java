@@ -0,0 +1,45 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CategoryTreeDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private Integer categoryId;
+	private String categoryTitle;
+	private String imageUrl;
+	
+	/**
+	 * Products filed directly under this category.
+	 */
+	private long productCount;
+	
+	/**
+	 * Products filed under this category or any of its descendants.
+	 */
+	private long totalProductCount;
+	
+	private List<CategoryTreeDto> subCategories;
+	
+}
+
+
+
+
+
+
+
+
+
+
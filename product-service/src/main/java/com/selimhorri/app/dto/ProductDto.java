@@ -1,7 +1,9 @@
 package com.selimhorri.app.dto;
 
 import java.io.Serializable;
+import java.time.Instant;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -24,11 +26,18 @@ public class ProductDto implements Serializable {
 	private String sku;
 	private Double priceUnit;
 	private Integer quantity;
+	private Integer version;
 	
 	@JsonProperty("category")
 	@JsonInclude(Include.NON_NULL)
 	private CategoryDto categoryDto;
 	
+	@JsonIgnore
+	private String entityTag;
+	
+	@JsonIgnore
+	private Instant lastModified;
+	
 }
 
 
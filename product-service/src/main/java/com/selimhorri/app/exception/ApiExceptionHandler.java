@@ -3,6 +3,9 @@ package com.selimhorri.app.exception;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import javax.validation.ConstraintViolationException;
+
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -13,7 +16,10 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.ReservationNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,9 +47,25 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = ConstraintViolationException.class)
+	public ResponseEntity<ExceptionMsg> handleConstraintViolationException(final ConstraintViolationException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle constraint violation*\n");
+		final var badRequest = HttpStatus.BAD_REQUEST;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("*" + e.getConstraintViolations().iterator().next().getMessage() + "!**")
+					.httpStatus(badRequest)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), badRequest);
+	}
+	
 	@ExceptionHandler(value = {
 		CategoryNotFoundException.class,
 		ProductNotFoundException.class,
+		ReservationNotFoundException.class,
 	})
 	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 		
@@ -59,6 +81,51 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = InsufficientStockException.class)
+	public ResponseEntity<ExceptionMsg> handleInsufficientStockException(final InsufficientStockException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle insufficient stock*\n");
+		final var conflict = HttpStatus.CONFLICT;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("#### " + e.getMessage() + "! ####")
+					.httpStatus(conflict)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), conflict);
+	}
+	
+	@ExceptionHandler(value = VersionRequiredException.class)
+	public ResponseEntity<ExceptionMsg> handleVersionRequiredException(final VersionRequiredException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle missing version*\n");
+		final var preconditionRequired = HttpStatus.PRECONDITION_REQUIRED;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("#### " + e.getMessage() + "! ####")
+					.httpStatus(preconditionRequired)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), preconditionRequired);
+	}
+	
+	@ExceptionHandler(value = OptimisticLockingFailureException.class)
+	public ResponseEntity<ExceptionMsg> handleOptimisticLockingFailureException(final OptimisticLockingFailureException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle concurrent update*\n");
+		final var conflict = HttpStatus.CONFLICT;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("#### " + e.getMessage() + "! ####")
+					.httpStatus(conflict)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), conflict);
+	}
+	
 	
 	
 }
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class VersionRequiredException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public VersionRequiredException() {
+		super();
+	}
+	
+	public VersionRequiredException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public VersionRequiredException(String message) {
+		super(message);
+	}
+	
+	public VersionRequiredException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
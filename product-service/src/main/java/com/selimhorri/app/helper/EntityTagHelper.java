@@ -0,0 +1,62 @@
+package com.selimhorri.app.helper;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.domain.AbstractMappedEntity;
+
+/**
+ * Validators for conditional GETs: the entity tag is built from the id and the 
+ * optimistic-lock versions of the entities in the representation, so it moves 
+ * on every write regardless of timestamp precision. The latest audit timestamp 
+ * is sent as Last-Modified, a weaker validator Spring only consults when the 
+ * request has no If-None-Match; Spring answers 304 itself when either matches.
+ */
+public interface EntityTagHelper {
+	
+	public static Instant lastModified(final AbstractMappedEntity... entities) {
+		return Stream.of(entities)
+				.filter(Objects::nonNull)
+				.map(entity -> entity.getUpdatedAt() != null ? entity.getUpdatedAt() : entity.getCreatedAt())
+				.filter(Objects::nonNull)
+				.max(Instant::compareTo)
+				.orElse(null);
+	}
+	
+	/**
+	 * Null while the id or any version is unknown, e.g. before the first flush.
+	 */
+	public static String eTag(final Integer id, final Object... versions) {
+		if (id == null || Stream.of(versions).anyMatch(Objects::isNull))
+			return null;
+		return Stream.concat(Stream.of(id), Stream.of(versions))
+				.map(String::valueOf)
+				.collect(Collectors.joining("-", "\"", "\""));
+	}
+	
+	public static <T> ResponseEntity<T> ok(final String eTag, final Instant lastModified, final T body) {
+		final var response = ResponseEntity.ok();
+		if (eTag != null)
+			response.eTag(eTag);
+		if (lastModified != null)
+			response.lastModified(lastModified);
+		return response.body(body);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
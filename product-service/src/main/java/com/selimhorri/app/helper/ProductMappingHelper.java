@@ -1,5 +1,7 @@
 package com.selimhorri.app.helper;
 
+import java.util.Objects;
+
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.CategoryDto;
@@ -15,12 +17,18 @@ public interface ProductMappingHelper {
 				.sku(product.getSku())
 				.priceUnit(product.getPriceUnit())
 				.quantity(product.getQuantity())
+				.version(product.getVersion())
 				.categoryDto(
 						CategoryDto.builder()
 							.categoryId(product.getCategory().getCategoryId())
 							.categoryTitle(product.getCategory().getCategoryTitle())
 							.imageUrl(product.getCategory().getImageUrl())
 							.build())
+				// categories carry no version, so a hash of the embedded fields stands in for one
+				.entityTag(EntityTagHelper.eTag(product.getProductId(), product.getVersion(), 
+						Integer.toHexString(Objects.hash(product.getCategory().getCategoryId(), 
+								product.getCategory().getCategoryTitle(), product.getCategory().getImageUrl()))))
+				.lastModified(EntityTagHelper.lastModified(product, product.getCategory()))
 				.build();
 	}
 	
@@ -32,7 +40,8 @@ public interface ProductMappingHelper {
 				.sku(productDto.getSku())
 				.priceUnit(productDto.getPriceUnit())
 				.quantity(productDto.getQuantity())
-				.category(
+				.version(productDto.getVersion())
+				.category(productDto.getCategoryDto() == null ? null : 
 						Category.builder()
 							.categoryId(productDto.getCategoryDto().getCategoryId())
 							.categoryTitle(productDto.getCategoryDto().getCategoryTitle())
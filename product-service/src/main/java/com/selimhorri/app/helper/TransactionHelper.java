@@ -0,0 +1,37 @@
+package com.selimhorri.app.helper;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects of a write until its transaction commits, so a 
+ * rolled back write never leaks into them; outside a transaction they run at once.
+ */
+public interface TransactionHelper {
+	
+	public static void afterCommit(final Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,142 @@
+package com.selimhorri.app.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryTreeDto;
+import com.selimhorri.app.helper.TransactionHelper;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Whole category hierarchy with product counts, held as an immutable snapshot.
+ * Reads never touch the database; a write to categories or products schedules a
+ * rebuild after its transaction commits, which loads every category and the
+ * per-category product counts in two queries, links them in O(n) and swaps the
+ * snapshot in one volatile write.
+ */
+@Component
+@Slf4j
+public class CategoryTreeIndex {
+	
+	private final CategoryRepository categoryRepository;
+	private final ProductRepository productRepository;
+	private final TransactionTemplate transactionTemplate;
+	
+	private volatile List<CategoryTreeDto> roots;
+	
+	public CategoryTreeIndex(final CategoryRepository categoryRepository, 
+			final ProductRepository productRepository, 
+			final PlatformTransactionManager transactionManager) {
+		this.categoryRepository = categoryRepository;
+		this.productRepository = productRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.transactionTemplate.setReadOnly(true);
+	}
+	
+	public List<CategoryTreeDto> getRoots() {
+		var snapshot = this.roots;
+		if (snapshot == null)
+			snapshot = this.rebuild();
+		return snapshot;
+	}
+	
+	/**
+	 * Rebuilds once the surrounding transaction commits, or right away outside one.
+	 */
+	public void invalidate() {
+		TransactionHelper.afterCommit(this::rebuild);
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		this.rebuild();
+	}
+	
+	/**
+	 * Runs in its own read-only transaction, since it is also called from
+	 * {@code afterCommit} where the finished transaction is still bound.
+	 */
+	public synchronized List<CategoryTreeDto> rebuild() {
+		final var snapshot = this.transactionTemplate.execute(status -> this.load());
+		this.roots = snapshot;
+		return snapshot;
+	}
+	
+	private List<CategoryTreeDto> load() {
+		
+		final var categories = this.categoryRepository.findAll();
+		final Map<Integer, Long> productCounts = this.productRepository.countAllGroupByCategoryId()
+				.stream()
+					.collect(Collectors.toMap(
+							ProductRepository.CategoryProductCount::getCategoryId, 
+							ProductRepository.CategoryProductCount::getProductCount));
+		
+		final Map<Integer, List<Category>> children = new HashMap<>();
+		final List<Category> rootCategories = new ArrayList<>();
+		categories.forEach(category -> {
+			if (category.getParentCategory() == null)
+				rootCategories.add(category);
+			else
+				children.computeIfAbsent(category.getParentCategory().getCategoryId(), k -> new ArrayList<>())
+						.add(category);
+		});
+		
+		final var snapshot = rootCategories.stream()
+				.sorted(Comparator.comparing(Category::getCategoryId))
+				.map(root -> toNode(root, children, productCounts))
+				.collect(Collectors.toUnmodifiableList());
+		log.info("*** CategoryTreeIndex; indexed {} categories under {} roots *", categories.size(), snapshot.size());
+		return snapshot;
+	}
+	
+	private static CategoryTreeDto toNode(final Category category, 
+			final Map<Integer, List<Category>> children, final Map<Integer, Long> productCounts) {
+		
+		final var subCategories = children.getOrDefault(category.getCategoryId(), List.of())
+				.stream()
+					.sorted(Comparator.comparing(Category::getCategoryId))
+					.map(child -> toNode(child, children, productCounts))
+					.collect(Collectors.toUnmodifiableList());
+		final long productCount = productCounts.getOrDefault(category.getCategoryId(), 0L);
+		
+		return CategoryTreeDto.builder()
+				.categoryId(category.getCategoryId())
+				.categoryTitle(category.getCategoryTitle())
+				.imageUrl(category.getImageUrl())
+				.productCount(productCount)
+				.totalProductCount(productCount + subCategories.stream()
+						.mapToLong(CategoryTreeDto::getTotalProductCount)
+						.sum())
+				.subCategories(subCategories)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,16 @@
+package com.selimhorri.app.index;
+
+import java.util.Collection;
+
+import com.selimhorri.app.dto.ProductDto;
+
+/**
+ * In-memory view of the product catalog kept current by {@link ProductIndexer}.
+ */
+public interface ProductIndex {
+	
+	void put(final ProductDto productDto);
+	void remove(final Integer productId);
+	Collection<Integer> findAllIdsByCategoryId(final Integer categoryId);
+	
+}
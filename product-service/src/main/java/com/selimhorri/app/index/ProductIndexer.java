@@ -0,0 +1,142 @@
+package com.selimhorri.app.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.helper.TransactionHelper;
+import com.selimhorri.app.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feeds every {@link ProductIndex}: the catalog is loaded in keyset batches at 
+ * startup, afterwards each write re-reads only the products it touched, once 
+ * its transaction has committed, and hands them to all indexes.
+ */
+@Component
+@Slf4j
+public class ProductIndexer {
+	
+	private static final int LOAD_BATCH_SIZE = 1000;
+	
+	private final ProductRepository productRepository;
+	private final List<ProductIndex> indexes;
+	private final TransactionTemplate transactionTemplate;
+	
+	public ProductIndexer(final ProductRepository productRepository, 
+			final List<ProductIndex> indexes, 
+			final PlatformTransactionManager transactionManager) {
+		this.productRepository = productRepository;
+		this.indexes = indexes;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.transactionTemplate.setReadOnly(true);
+	}
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		int count = 0;
+		Integer after = null;
+		List<Product> batch;
+		do {
+			final var pageable = PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("productId"));
+			final var from = after;
+			batch = this.transactionTemplate.execute(status -> from == null 
+					? this.productRepository.findAllBy(pageable) 
+					: this.productRepository.findByProductIdGreaterThan(from, pageable));
+			batch.stream()
+					.map(ProductMappingHelper::map)
+					.forEach(this::put);
+			count += batch.size();
+			if (!batch.isEmpty())
+				after = batch.get(batch.size() - 1).getProductId();
+		} while (batch.size() == LOAD_BATCH_SIZE);
+		log.info("*** ProductIndexer; indexed {} products into {} indexes *", count, this.indexes.size());
+	}
+	
+	/**
+	 * Re-reads the product once the surrounding transaction commits.
+	 */
+	public void reindex(final Integer productId) {
+		TransactionHelper.afterCommit(() -> this.transactionTemplate.executeWithoutResult(status -> 
+				this.productRepository.findById(productId)
+						.map(ProductMappingHelper::map)
+						.ifPresentOrElse(this::put, () -> this.remove(productId))));
+	}
+	
+	/**
+	 * Re-reads the given products in one query once the surrounding transaction commits.
+	 */
+	public void reindexAll(final Collection<Integer> productIds) {
+		TransactionHelper.afterCommit(() -> this.transactionTemplate.executeWithoutResult(status -> {
+			final var found = this.productRepository.findAllById(productIds)
+					.stream()
+						.map(ProductMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList());
+			final var foundIds = found.stream()
+					.map(ProductDto::getProductId)
+					.collect(Collectors.toUnmodifiableSet());
+			found.forEach(this::put);
+			productIds.stream()
+					.filter(productId -> !foundIds.contains(productId))
+					.forEach(this::remove);
+		}));
+	}
+	
+	/**
+	 * Re-reads the products of a category once the surrounding transaction commits, 
+	 * picking up a renamed category or the products removed along with a deleted one.
+	 */
+	public void reindexCategory(final Integer categoryId) {
+		TransactionHelper.afterCommit(() -> this.transactionTemplate.executeWithoutResult(status -> {
+			final var current = this.productRepository.findAllByCategoryCategoryId(categoryId)
+					.stream()
+						.map(ProductMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList());
+			final var currentIds = current.stream()
+					.map(ProductDto::getProductId)
+					.collect(Collectors.toUnmodifiableSet());
+			this.indexes.forEach(index -> {
+				current.forEach(index::put);
+				index.findAllIdsByCategoryId(categoryId).stream()
+						.filter(productId -> !currentIds.contains(productId))
+						.collect(Collectors.toUnmodifiableList())
+						.forEach(index::remove);
+			});
+		}));
+	}
+	
+	private void put(final ProductDto productDto) {
+		this.indexes.forEach(index -> index.put(productDto));
+	}
+	
+	private void remove(final Integer productId) {
+		this.indexes.forEach(index -> index.remove(productId));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,265 @@
+package com.selimhorri.app.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.ProductDto;
+
+/**
+ * Catalog snapshot keyed by product id and by sku for allocation-free point reads.
+ * Both keys live in open-addressing tables of parallel primitive/reference arrays
+ * with linear probing: ids are stored as plain ints, skus by their cached String
+ * hash and only compared on a hash match. Removal shifts the following run back
+ * instead of leaving tombstones, so probe lengths never degrade under churn.
+ *
+ * Readers use an optimistic stamp and retry under the read lock only when a write
+ * overlapped; the returned instances are shared and must not be modified.
+ */
+@Component
+public class ProductLookupTable implements ProductIndex {
+	
+	private static final int INITIAL_CAPACITY = 1 << 10;
+	
+	private final StampedLock lock = new StampedLock();
+	
+	private int[] ids = new int[INITIAL_CAPACITY];
+	private ProductDto[] byId = new ProductDto[INITIAL_CAPACITY];
+	private int[] skuHashes = new int[INITIAL_CAPACITY];
+	private ProductDto[] bySku = new ProductDto[INITIAL_CAPACITY];
+	private int size;
+	
+	/**
+	 * Product with the given id, or null when it is not in the table.
+	 */
+	public ProductDto findById(final int productId) {
+		long stamp = this.lock.tryOptimisticRead();
+		var productDto = probeId(this.ids, this.byId, productId);
+		if (!this.lock.validate(stamp)) {
+			stamp = this.lock.readLock();
+			try {
+				productDto = probeId(this.ids, this.byId, productId);
+			}
+			finally {
+				this.lock.unlockRead(stamp);
+			}
+		}
+		return productDto;
+	}
+	
+	/**
+	 * Product with the given sku, or null when it is not in the table.
+	 */
+	public ProductDto findBySku(final String sku) {
+		long stamp = this.lock.tryOptimisticRead();
+		var productDto = probeSku(this.skuHashes, this.bySku, sku);
+		if (!this.lock.validate(stamp)) {
+			stamp = this.lock.readLock();
+			try {
+				productDto = probeSku(this.skuHashes, this.bySku, sku);
+			}
+			finally {
+				this.lock.unlockRead(stamp);
+			}
+		}
+		return productDto;
+	}
+	
+	public int size() {
+		return this.size;
+	}
+	
+	@Override
+	public void put(final ProductDto productDto) {
+		final long stamp = this.lock.writeLock();
+		try {
+			this.delete(productDto.getProductId());
+			if ((this.size + 1) * 2 > this.ids.length)
+				this.resize(this.ids.length * 2);
+			insertId(this.ids, this.byId, productDto);
+			if (productDto.getSku() != null)
+				insertSku(this.skuHashes, this.bySku, productDto);
+			this.size++;
+		}
+		finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+	
+	@Override
+	public void remove(final Integer productId) {
+		final long stamp = this.lock.writeLock();
+		try {
+			this.delete(productId);
+		}
+		finally {
+			this.lock.unlockWrite(stamp);
+		}
+	}
+	
+	@Override
+	public Collection<Integer> findAllIdsByCategoryId(final Integer categoryId) {
+		final long stamp = this.lock.readLock();
+		try {
+			final List<Integer> productIds = new ArrayList<>();
+			for (final var productDto : this.byId)
+				if (productDto != null && productDto.getCategoryDto() != null
+						&& categoryId.equals(productDto.getCategoryDto().getCategoryId()))
+					productIds.add(productDto.getProductId());
+			return productIds;
+		}
+		finally {
+			this.lock.unlockRead(stamp);
+		}
+	}
+	
+	private void delete(final int productId) {
+		
+		final int idSlot = slotOfId(this.ids, this.byId, productId);
+		if (idSlot < 0)
+			return;
+		final var previous = this.byId[idSlot];
+		shiftBack(this.ids, this.byId, idSlot);
+		
+		if (previous.getSku() != null) {
+			final int skuSlot = slotOfSku(this.skuHashes, this.bySku, previous.getSku());
+			if (skuSlot >= 0 && this.bySku[skuSlot] == previous)
+				shiftBack(this.skuHashes, this.bySku, skuSlot);
+		}
+		this.size--;
+	}
+	
+	private void resize(final int capacity) {
+		final var products = this.byId;
+		final var resizedIds = new int[capacity];
+		final var resizedById = new ProductDto[capacity];
+		final var resizedSkuHashes = new int[capacity];
+		final var resizedBySku = new ProductDto[capacity];
+		for (final var productDto : products) {
+			if (productDto == null)
+				continue;
+			insertId(resizedIds, resizedById, productDto);
+			if (productDto.getSku() != null)
+				insertSku(resizedSkuHashes, resizedBySku, productDto);
+		}
+		this.ids = resizedIds;
+		this.byId = resizedById;
+		this.skuHashes = resizedSkuHashes;
+		this.bySku = resizedBySku;
+	}
+	
+	/**
+	 * Arrays read under an optimistic stamp may belong to different generations;
+	 * the length check and the probe bound keep such a read from failing before
+	 * the stamp is validated.
+	 */
+	private static ProductDto probeId(final int[] keys, final ProductDto[] values, final int productId) {
+		if (keys.length != values.length)
+			return null;
+		final int mask = keys.length - 1;
+		for (int i = mix(productId) & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+			final var value = values[i];
+			if (value == null)
+				return null;
+			if (keys[i] == productId)
+				return value;
+		}
+		return null;
+	}
+	
+	private static ProductDto probeSku(final int[] keys, final ProductDto[] values, final String sku) {
+		if (keys.length != values.length)
+			return null;
+		final int hash = sku.hashCode();
+		final int mask = keys.length - 1;
+		for (int i = mix(hash) & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+			final var value = values[i];
+			if (value == null)
+				return null;
+			if (keys[i] == hash && sku.equals(value.getSku()))
+				return value;
+		}
+		return null;
+	}
+	
+	private static int slotOfId(final int[] keys, final ProductDto[] values, final int productId) {
+		final int mask = keys.length - 1;
+		for (int i = mix(productId) & mask; values[i] != null; i = (i + 1) & mask)
+			if (keys[i] == productId)
+				return i;
+		return -1;
+	}
+	
+	private static int slotOfSku(final int[] keys, final ProductDto[] values, final String sku) {
+		final int hash = sku.hashCode();
+		final int mask = keys.length - 1;
+		for (int i = mix(hash) & mask; values[i] != null; i = (i + 1) & mask)
+			if (keys[i] == hash && sku.equals(values[i].getSku()))
+				return i;
+		return -1;
+	}
+	
+	private static void insertId(final int[] keys, final ProductDto[] values, final ProductDto productDto) {
+		final int productId = productDto.getProductId();
+		final int mask = keys.length - 1;
+		int i = mix(productId) & mask;
+		while (values[i] != null)
+			i = (i + 1) & mask;
+		keys[i] = productId;
+		values[i] = productDto;
+	}
+	
+	/**
+	 * A sku still held by another product (an update swapping skus not yet seen
+	 * for both) is taken over by the latest write.
+	 */
+	private static void insertSku(final int[] keys, final ProductDto[] values, final ProductDto productDto) {
+		final int hash = productDto.getSku().hashCode();
+		final int mask = keys.length - 1;
+		int i = mix(hash) & mask;
+		while (values[i] != null && !(keys[i] == hash && productDto.getSku().equals(values[i].getSku())))
+			i = (i + 1) & mask;
+		keys[i] = hash;
+		values[i] = productDto;
+	}
+	
+	/**
+	 * Backward-shift deletion: every entry of the run after the hole whose home
+	 * slot does not lie between the hole and itself moves into the hole.
+	 */
+	private static void shiftBack(final int[] keys, final ProductDto[] values, final int slot) {
+		final int mask = keys.length - 1;
+		int hole = slot;
+		for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+			final int home = mix(keys[i]) & mask;
+			if (((i - home) & mask) >= ((i - hole) & mask)) {
+				keys[hole] = keys[i];
+				values[hole] = values[i];
+				hole = i;
+			}
+		}
+		keys[hole] = 0;
+		values[hole] = null;
+	}
+	
+	private static int mix(final int key) {
+		final int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,265 @@
+package com.selimhorri.app.index;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.dto.ProductDto;
+
+/**
+ * Inverted index over product titles, skus and category titles. Terms live in a
+ * sorted map so a prefix is one range scan; title and category terms are also
+ * registered under each of their single-character deletions, so a term within one
+ * edit of a typo is found by hash lookups instead of a scan of the dictionary.
+ * Writers are serialized, readers never lock.
+ */
+@Component
+public class ProductSearchIndex implements ProductIndex {
+	
+	private static final Pattern SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+	private static final int MIN_FUZZY_LENGTH = 4;
+	private static final int EXACT = 3;
+	private static final int PREFIX = 2;
+	private static final int FUZZY = 1;
+	
+	private final Map<Integer, ProductDto> products = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<String, Set<Integer>> terms = new ConcurrentSkipListMap<>();
+	private final Map<String, Set<String>> deletions = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<Double, Set<Integer>> prices = new ConcurrentSkipListMap<>();
+	
+	/**
+	 * Products matching every term of the query by exact term, prefix or, when
+	 * fuzzy, one typo, best matches first; without a query, products in the price
+	 * range cheapest first.
+	 */
+	public List<ProductDto> search(final String query, final Double minPrice, final Double maxPrice,
+			final boolean fuzzy, final int limit) {
+		
+		final var tokens = tokenize(query).collect(Collectors.toUnmodifiableSet());
+		if (tokens.isEmpty())
+			return this.prices.subMap(
+						minPrice != null ? minPrice : Double.NEGATIVE_INFINITY, true,
+						maxPrice != null ? maxPrice : Double.POSITIVE_INFINITY, true)
+					.values()
+					.stream()
+						.flatMap(productIds -> productIds.stream().sorted())
+						.map(this.products::get)
+						.filter(Objects::nonNull)
+						.limit(limit)
+						.collect(Collectors.toUnmodifiableList());
+		
+		Map<Integer, Integer> scores = null;
+		for (final var token : tokens) {
+			final var tokenScores = this.match(token, fuzzy);
+			scores = scores == null ? tokenScores : intersect(scores, tokenScores);
+			if (scores.isEmpty())
+				return List.of();
+		}
+		
+		final var scored = scores;
+		return scored.keySet().stream()
+				.map(this.products::get)
+				.filter(productDto -> productDto != null && isInRange(productDto.getPriceUnit(), minPrice, maxPrice))
+				.sorted(Comparator.<ProductDto>comparingInt(productDto -> scored.get(productDto.getProductId()))
+						.reversed()
+						.thenComparing(ProductDto::getProductId))
+				.limit(limit)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public synchronized void put(final ProductDto productDto) {
+		this.remove(productDto.getProductId());
+		this.products.put(productDto.getProductId(), productDto);
+		words(productDto).forEach(word -> this.add(word, productDto.getProductId(), true));
+		codes(productDto).forEach(code -> this.add(code, productDto.getProductId(), false));
+		if (productDto.getPriceUnit() != null)
+			this.prices.computeIfAbsent(productDto.getPriceUnit(), k -> ConcurrentHashMap.newKeySet())
+					.add(productDto.getProductId());
+	}
+	
+	@Override
+	public synchronized void remove(final Integer productId) {
+		final var previous = this.products.get(productId);
+		if (previous == null)
+			return;
+		Stream.concat(words(previous), codes(previous))
+				.distinct()
+				.forEach(term -> this.drop(term, productId));
+		if (previous.getPriceUnit() != null)
+			this.prices.computeIfPresent(previous.getPriceUnit(), (price, productIds) -> {
+				productIds.remove(productId);
+				return productIds.isEmpty() ? null : productIds;
+			});
+		this.products.remove(productId);
+	}
+	
+	@Override
+	public Collection<Integer> findAllIdsByCategoryId(final Integer categoryId) {
+		return this.products.values().stream()
+				.filter(productDto -> productDto.getCategoryDto() != null 
+						&& categoryId.equals(productDto.getCategoryDto().getCategoryId()))
+				.map(ProductDto::getProductId)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	private void add(final String term, final Integer productId, final boolean fuzzy) {
+		var productIds = this.terms.get(term);
+		if (productIds == null) {
+			productIds = ConcurrentHashMap.newKeySet();
+			this.terms.put(term, productIds);
+		}
+		productIds.add(productId);
+		if (fuzzy && term.length() >= MIN_FUZZY_LENGTH - 1)
+			variants(term).forEach(variant -> this.deletions
+					.computeIfAbsent(variant, k -> ConcurrentHashMap.newKeySet())
+					.add(term));
+	}
+	
+	private void drop(final String term, final Integer productId) {
+		final var productIds = this.terms.get(term);
+		if (productIds == null)
+			return;
+		productIds.remove(productId);
+		if (!productIds.isEmpty())
+			return;
+		this.terms.remove(term);
+		variants(term).forEach(variant -> this.deletions.computeIfPresent(variant, (k, variantTerms) -> {
+			variantTerms.remove(term);
+			return variantTerms.isEmpty() ? null : variantTerms;
+		}));
+	}
+	
+	private Map<Integer, Integer> match(final String token, final boolean fuzzy) {
+		
+		final Map<Integer, Integer> scores = new HashMap<>();
+		this.terms.subMap(token, true, token + Character.MAX_VALUE, false)
+				.forEach((term, productIds) -> {
+					final int score = term.equals(token) ? EXACT : PREFIX;
+					productIds.forEach(productId -> scores.merge(productId, score, Math::max));
+				});
+		
+		if (fuzzy && token.length() >= MIN_FUZZY_LENGTH)
+			variants(token)
+					.map(this.deletions::get)
+					.filter(Objects::nonNull)
+					.flatMap(Collection::stream)
+					.distinct()
+					.filter(term -> isWithinOneEdit(token, term))
+					.map(this.terms::get)
+					.filter(Objects::nonNull)
+					.forEach(productIds -> productIds.forEach(productId ->
+							scores.merge(productId, FUZZY, Math::max)));
+		
+		return scores;
+	}
+	
+	private static Map<Integer, Integer> intersect(final Map<Integer, Integer> left, final Map<Integer, Integer> right) {
+		final var smaller = left.size() <= right.size() ? left : right;
+		final var larger = smaller == left ? right : left;
+		final Map<Integer, Integer> scores = new HashMap<>();
+		smaller.forEach((productId, score) -> {
+			final var other = larger.get(productId);
+			if (other != null)
+				scores.put(productId, score + other);
+		});
+		return scores;
+	}
+	
+	private static boolean isInRange(final Double price, final Double minPrice, final Double maxPrice) {
+		if (minPrice == null && maxPrice == null)
+			return true;
+		return price != null
+				&& (minPrice == null || price >= minPrice)
+				&& (maxPrice == null || price <= maxPrice);
+	}
+	
+	private static Stream<String> tokenize(final String text) {
+		if (text == null || text.isBlank())
+			return Stream.empty();
+		return SEPARATOR.splitAsStream(text.toLowerCase(Locale.ROOT))
+				.filter(token -> !token.isEmpty());
+	}
+	
+	private static Stream<String> words(final ProductDto productDto) {
+		return Stream.concat(
+						tokenize(productDto.getProductTitle()),
+						tokenize(productDto.getCategoryDto() != null ? productDto.getCategoryDto().getCategoryTitle() : null))
+				.distinct();
+	}
+	
+	/**
+	 * Sku terms are matched by prefix only: they are mostly unique, so registering
+	 * their deletions would multiply the index size for little benefit.
+	 */
+	private static Stream<String> codes(final ProductDto productDto) {
+		if (productDto.getSku() == null || productDto.getSku().isBlank())
+			return Stream.empty();
+		return Stream.concat(Stream.of(productDto.getSku().strip().toLowerCase(Locale.ROOT)), tokenize(productDto.getSku()))
+				.distinct();
+	}
+	
+	/**
+	 * The term itself and every string obtained by deleting one of its characters.
+	 */
+	private static Stream<String> variants(final String term) {
+		final Set<String> variants = new HashSet<>();
+		variants.add(term);
+		for (int i = 0; i < term.length(); i++)
+			variants.add(term.substring(0, i) + term.substring(i + 1));
+		return variants.stream();
+	}
+	
+	/**
+	 * Optimal string alignment distance of at most one: a single insertion,
+	 * deletion, substitution or transposition of adjacent characters.
+	 */
+	static boolean isWithinOneEdit(final String left, final String right) {
+		
+		final int lengthDiff = left.length() - right.length();
+		if (Math.abs(lengthDiff) > 1)
+			return false;
+		
+		int i = 0;
+		while (i < left.length() && i < right.length() && left.charAt(i) == right.charAt(i))
+			i++;
+		if (i == left.length() || i == right.length())
+			return true;
+		
+		if (lengthDiff > 0)
+			return left.regionMatches(i + 1, right, i, right.length() - i);
+		if (lengthDiff < 0)
+			return right.regionMatches(i + 1, left, i, left.length() - i);
+		return left.regionMatches(i + 1, right, i + 1, left.length() - i - 1)
+				|| (i + 1 < left.length()
+						&& left.charAt(i) == right.charAt(i + 1)
+						&& left.charAt(i + 1) == right.charAt(i)
+						&& left.regionMatches(i + 2, right, i + 2, left.length() - i - 2));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,382 @@
+package com.selimhorri.app.inventory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.ReservationNotFoundException;
+import com.selimhorri.app.helper.TransactionHelper;
+import com.selimhorri.app.index.ProductIndexer;
+import com.selimhorri.app.repository.ProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Owns the sellable stock of every product touched by a reservation. Each product
+ * has its own counter, seeded from {@code products.quantity} on first use and only
+ * ever decremented by a compare-and-set that refuses to go below zero, so concurrent
+ * reservations neither block each other across products nor oversell one product.
+ *
+ * A reservation holds its quantity until it is committed, released or its ttl runs
+ * out. Committed quantities are summed per product and written back periodically in
+ * one batch of {@code quantity = quantity - ?} updates guarded by
+ * {@code quantity >= ?}. The counter only guards this instance: another replica or a
+ * product update can lower the table underneath it, so items already sold here may
+ * no longer fit. Such a rejected quantity is oversold; it is kept, counted in
+ * {@code inventory.flush.rejected} and logged as an error for reconciliation, and
+ * retried once a product update re-seeds the counter. Reservations live in memory
+ * only, a restart releases them; committed quantities are flushed on shutdown.
+ */
+@Component
+@Slf4j
+public class InventoryReservationEngine {
+	
+	static final String DECREMENT_QUANTITY = "UPDATE products SET quantity = quantity - ?, version = version + 1, "
+			+ "updated_at = CURRENT_TIMESTAMP WHERE product_id = ? AND quantity >= ?";
+	
+	private final ProductRepository productRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ProductIndexer productIndexer;
+	private final CacheManager cacheManager;
+	private final MeterRegistry meterRegistry;
+	private final Duration defaultTtl;
+	
+	private final Map<Integer, Stock> stocks = new ConcurrentHashMap<>();
+	private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+	
+	public InventoryReservationEngine(final ProductRepository productRepository,
+			final JdbcTemplate jdbcTemplate,
+			final PlatformTransactionManager transactionManager,
+			final ProductIndexer productIndexer,
+			final CacheManager cacheManager,
+			final MeterRegistry meterRegistry,
+			@Value("${app.inventory.reservation-ttl:PT10M}") final Duration defaultTtl) {
+		this.productRepository = productRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.productIndexer = productIndexer;
+		this.cacheManager = cacheManager;
+		this.meterRegistry = meterRegistry;
+		this.defaultTtl = defaultTtl;
+	}
+	
+	/**
+	 * The reservation is registered before the counter is decremented, both under
+	 * the product's lock, so a re-seed never sees the one without the other.
+	 */
+	public ReservationDto reserve(final Integer productId, final int quantity, final Duration ttl) {
+		
+		final var stock = this.stock(productId);
+		final var reservation = new Reservation(UUID.randomUUID().toString(), productId, quantity,
+				Instant.now().plus(ttl != null ? ttl : this.defaultTtl));
+		synchronized (stock) {
+			this.reservations.put(reservation.reservationId, reservation);
+			if (!stock.tryTake(quantity)) {
+				this.reservations.remove(reservation.reservationId);
+				throw new InsufficientStockException(String.format(
+						"Product with id: %d has less than %d item(s) available", productId, quantity));
+			}
+		}
+		return reservation.toDto();
+	}
+	
+	/**
+	 * The quantity is added to {@code unflushed} before the reservation stops
+	 * counting as held, under the product's lock, and taken back if it was no
+	 * longer open.
+	 */
+	public ReservationDto commit(final String reservationId) {
+		final var reservation = this.find(reservationId);
+		final var stock = this.stocks.get(reservation.productId);
+		synchronized (lock(stock, reservation)) {
+			this.expireIfDue(reservation, stock);
+			if (stock != null)
+				stock.unflushed.addAndGet(reservation.quantity);
+			if (!reservation.transition(ReservationStatus.COMMITTED)) {
+				if (stock != null)
+					stock.unflushed.addAndGet(-reservation.quantity);
+				throw notActive(reservationId);
+			}
+			this.reservations.remove(reservationId);
+		}
+		return reservation.toDto();
+	}
+	
+	public ReservationDto release(final String reservationId) {
+		final var reservation = this.find(reservationId);
+		final var stock = this.stocks.get(reservation.productId);
+		synchronized (lock(stock, reservation)) {
+			this.expireIfDue(reservation, stock);
+			if (!reservation.transition(ReservationStatus.RELEASED))
+				throw notActive(reservationId);
+			this.reservations.remove(reservationId);
+			if (stock != null)
+				stock.give(reservation.quantity);
+		}
+		return reservation.toDto();
+	}
+	
+	public int findAvailable(final Integer productId) {
+		return this.stock(productId).available.get();
+	}
+	
+	/**
+	 * Re-seeds the counter of a product written through the product API once that
+	 * write commits: the new table quantity minus what is still held by open
+	 * reservations and not yet flushed. Previously rejected quantities are queued
+	 * for the next flush again, the update may have restocked enough to absorb them.
+	 */
+	public void refresh(final Integer productId) {
+		TransactionHelper.afterCommit(() -> this.retry(productId));
+	}
+
+	
+	@Scheduled(fixedDelayString = "${app.inventory.sweep-interval:PT1S}")
+	public void expire() {
+		final var now = Instant.now();
+		this.reservations.values().stream()
+				.filter(reservation -> reservation.isExpired(now))
+				.forEach(reservation -> {
+					final var stock = this.stocks.get(reservation.productId);
+					synchronized (lock(stock, reservation)) {
+						this.expireIfDue(reservation, stock);
+					}
+				});
+	}
+	
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${app.inventory.flush-interval:PT0.2S}")
+	public synchronized void flush() {
+		
+		final Map<Integer, Integer> deltas = new HashMap<>();
+		this.stocks.forEach((productId, stock) -> {
+			final int delta = stock.unflushed.getAndSet(0);
+			if (delta > 0)
+				deltas.put(productId, delta);
+		});
+		if (deltas.isEmpty())
+			return;
+		
+		final var batch = List.copyOf(deltas.entrySet());
+		final int[][] counts;
+		try {
+			counts = this.transactionTemplate.execute(status -> this.jdbcTemplate.batchUpdate(DECREMENT_QUANTITY,
+					batch, batch.size(), (ps, entry) -> {
+						ps.setInt(1, entry.getValue());
+						ps.setInt(2, entry.getKey());
+						ps.setInt(3, entry.getValue());
+					}));
+		}
+		catch (DataAccessException e) {
+			log.warn("*** InventoryReservationEngine; flush of {} product(s) failed, retrying: {} *",
+					batch.size(), e.getMessage());
+			deltas.forEach((productId, delta) -> {
+				final var stock = this.stocks.get(productId);
+				if (stock != null)
+					stock.unflushed.addAndGet(delta);
+			});
+			return;
+		}
+		
+		for (int i = 0; i < batch.size(); i++) {
+			if (counts[0][i] != 0)
+				continue;
+			final var productId = batch.get(i).getKey();
+			final int delta = batch.get(i).getValue();
+			log.error("*** InventoryReservationEngine; product {} had less than {} committed item(s) left, "
+					+ "holding them for reconciliation *", productId, delta);
+			this.meterRegistry.counter("inventory.flush.rejected").increment(delta);
+			final var stock = this.stocks.get(productId);
+			if (stock != null)
+				stock.rejected.addAndGet(delta);
+			this.reseed(productId);
+		}
+		
+		final var products = this.cacheManager.getCache(AppConstant.CacheNames.PRODUCTS);
+		if (products != null)
+			deltas.keySet().forEach(products::evict);
+		this.productIndexer.reindexAll(deltas.keySet());
+	}
+	
+	private Stock stock(final Integer productId) {
+		return this.stocks.computeIfAbsent(productId, id -> new Stock(this.loadQuantity(id)));
+	}
+	
+	private Reservation find(final String reservationId) {
+		final var reservation = this.reservations.get(reservationId);
+		if (reservation == null)
+			throw notActive(reservationId);
+		return reservation;
+	}
+	
+	/**
+	 * Callers hold {@link #lock}; an expired reservation gives its quantity back.
+	 */
+	private void expireIfDue(final Reservation reservation, final Stock stock) {
+		if (!reservation.isExpired(Instant.now()) || !reservation.transition(ReservationStatus.EXPIRED))
+			return;
+		this.reservations.remove(reservation.reservationId);
+		if (stock != null)
+			stock.give(reservation.quantity);
+	}
+	
+	/**
+	 * The per-product lock shared by reserve, commit, release, expiry and re-seed;
+	 * a reservation whose product was dropped from the engine only guards itself.
+	 */
+	private static Object lock(final Stock stock, final Reservation reservation) {
+		return stock != null ? stock : reservation;
+	}
+	
+	private static ReservationNotFoundException notActive(final String reservationId) {
+		return new ReservationNotFoundException(String.format("Reservation with id: %s is not active", reservationId));
+	}
+	
+	private synchronized void retry(final Integer productId) {
+		final var stock = this.stocks.get(productId);
+		if (stock != null)
+			stock.unflushed.addAndGet(stock.rejected.getAndSet(0));
+		this.reseed(productId);
+	}
+	
+	/**
+	 * Runs under the flush monitor, so the table quantity it reads already includes
+	 * every delta taken out of {@code unflushed}. The table is read without holding
+	 * the product's lock; the counter is then recomputed under it, where no
+	 * reservation is halfway through reserve, commit, release or expiry.
+	 */
+	private synchronized void reseed(final Integer productId) {
+		
+		final var stock = this.stocks.get(productId);
+		if (stock == null)
+			return;
+		
+		final int quantity;
+		try {
+			quantity = this.loadQuantity(productId);
+		}
+		catch (ProductNotFoundException e) {
+			this.stocks.remove(productId, stock);
+			return;
+		}
+		
+		synchronized (stock) {
+			final int held = this.reservations.values().stream()
+					.filter(reservation -> reservation.productId.equals(productId) 
+							&& reservation.status.get() == ReservationStatus.RESERVED)
+					.mapToInt(reservation -> reservation.quantity)
+					.sum();
+			stock.available.set(quantity - held - stock.unflushed.get() - stock.rejected.get());
+		}
+	}
+	
+	private int loadQuantity(final Integer productId) {
+		return this.transactionTemplate.execute(status -> this.productRepository.findById(productId)
+				.map(product -> product.getQuantity() != null ? product.getQuantity() : 0)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId))));
+	}
+	
+	private static final class Stock {
+		
+		private final AtomicInteger available;
+		private final AtomicInteger unflushed = new AtomicInteger();
+		private final AtomicInteger rejected = new AtomicInteger();
+		
+		private Stock(final int available) {
+			this.available = new AtomicInteger(available);
+		}
+		
+		private boolean tryTake(final int quantity) {
+			int current;
+			do {
+				current = this.available.get();
+				if (current < quantity)
+					return false;
+			} while (!this.available.compareAndSet(current, current - quantity));
+			return true;
+		}
+		
+		private void give(final int quantity) {
+			this.available.addAndGet(quantity);
+		}
+		
+	}
+	
+	private static final class Reservation {
+		
+		private final String reservationId;
+		private final Integer productId;
+		private final int quantity;
+		private final Instant expiresAt;
+		private final AtomicReference<ReservationStatus> status = new AtomicReference<>(ReservationStatus.RESERVED);
+		
+		private Reservation(final String reservationId, final Integer productId, final int quantity,
+				final Instant expiresAt) {
+			this.reservationId = reservationId;
+			this.productId = productId;
+			this.quantity = quantity;
+			this.expiresAt = expiresAt;
+		}
+		
+		private boolean isExpired(final Instant now) {
+			return now.isAfter(this.expiresAt);
+		}
+		
+		/**
+		 * Only an open reservation can move, and only once.
+		 */
+		private boolean transition(final ReservationStatus target) {
+			return this.status.compareAndSet(ReservationStatus.RESERVED, target);
+		}
+		
+		private ReservationDto toDto() {
+			return ReservationDto.builder()
+					.reservationId(this.reservationId)
+					.productId(this.productId)
+					.quantity(this.quantity)
+					.status(this.status.get())
+					.expiresAt(this.expiresAt)
+					.build();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,25 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
+import java.util.List;
+
+import javax.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Category;
 
+/**
+ * Categories live in the second-level cache, so reads go through it instead of an
+ * entity graph: Hibernate neither reads nor populates the cache for graph-loaded
+ * entities, and lazy parents resolve from the cache region once it is warm.
+ */
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
-	
+	@Override
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+	List<Category> findAll();
 	
 }
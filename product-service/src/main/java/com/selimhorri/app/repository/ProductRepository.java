@@ -1,11 +1,76 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Product;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllById(final Iterable<Integer> productIds);
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	Optional<Product> findById(final Integer productId);
+	
+	@EntityGraph(attributePaths = "category")
+	Optional<Product> findBySku(final String sku);
+	
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "category")
+	List<Product> findByProductIdGreaterThan(final Integer productId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllByCategoryCategoryId(final Integer categoryId);
+	
+	@Query("SELECT p.category.categoryId AS categoryId, COUNT(p) AS productCount "
+			+ "FROM Product p GROUP BY p.category.categoryId")
+	List<CategoryProductCount> countAllGroupByCategoryId();
+	
+	/**
+	 * Replaces every column of the row in one statement. The row only matches at
+	 * the given version; 0 means the product is missing or was changed in between.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.productTitle = :#{#product.productTitle}, p.imageUrl = :#{#product.imageUrl}, "
+			+ "p.sku = :#{#product.sku}, p.priceUnit = :#{#product.priceUnit}, p.quantity = :#{#product.quantity}, "
+			+ "p.category = :#{#product.category}, p.version = p.version + 1, p.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE p.productId = :productId AND p.version = :#{#product.version}")
+	int updateById(@Param("productId") final Integer productId, @Param("product") final Product product);
+	
+	/**
+	 * Same as {@link #updateById} but null fields keep their current value.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.productTitle = COALESCE(:#{#product.productTitle}, p.productTitle), "
+			+ "p.imageUrl = COALESCE(:#{#product.imageUrl}, p.imageUrl), p.sku = COALESCE(:#{#product.sku}, p.sku), "
+			+ "p.priceUnit = COALESCE(:#{#product.priceUnit}, p.priceUnit), "
+			+ "p.quantity = COALESCE(:#{#product.quantity}, p.quantity), "
+			+ "p.category = COALESCE(:#{#product.category}, p.category), p.version = p.version + 1, "
+			+ "p.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE p.productId = :productId AND p.version = :#{#product.version}")
+	int patchById(@Param("productId") final Integer productId, @Param("product") final Product product);
 	
+	interface CategoryProductCount {
+		
+		Integer getCategoryId();
+		Long getProductCount();
+		
+	}
 	
 }
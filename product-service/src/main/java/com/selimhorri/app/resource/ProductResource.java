@@ -1,21 +1,32 @@
 package com.selimhorri.app.resource;
 
+import java.util.Set;
+
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.helper.EntityTagHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/products")
+@Validated
 @Slf4j
 @RequiredArgsConstructor
 public class ProductResource {
@@ -35,13 +47,64 @@ public class ProductResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
 	}
 	
+	@GetMapping("/page")
+	public ResponseEntity<DtoPageResponse<ProductDto>> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "size", defaultValue = "20") final int size) {
+		log.info("*** ProductDto Page, controller; fetch page of products *");
+		return ResponseEntity.ok(this.productService.findAll(after, size));
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> search(
+			@RequestParam(name = "q", required = false) final String query, 
+			@RequestParam(name = "minPrice", required = false) final Double minPrice, 
+			@RequestParam(name = "maxPrice", required = false) final Double maxPrice, 
+			@RequestParam(name = "fuzzy", defaultValue = "true") final boolean fuzzy, 
+			@RequestParam(name = "limit", defaultValue = "20") 
+			@Min(value = 1, message = "Limit must be positive") 
+			@Max(value = PageMappingHelper.MAX_PAGE_SIZE, message = "Limit must not exceed " + PageMappingHelper.MAX_PAGE_SIZE) 
+			final int limit) {
+		log.info("*** ProductDto List, resource; search products *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(
+				this.productService.search(query, minPrice, maxPrice, fuzzy, limit)));
+	}
+	
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductDto> findById(
 			@PathVariable("productId") 
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String productId) {
 		log.info("*** ProductDto, resource; fetch product by id *");
-		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
+		final var productDto = this.productService.findById(Integer.parseInt(productId));
+		return EntityTagHelper.ok(productDto.getEntityTag(), productDto.getLastModified(), productDto);
+	}
+	
+	@GetMapping("/lookup/{productId}")
+	public ResponseEntity<ProductDto> lookupById(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String productId) {
+		log.info("*** ProductDto, resource; lookup product by id *");
+		return ResponseEntity.ok(this.productService.lookupById(Integer.parseInt(productId)));
+	}
+	
+	@GetMapping("/lookup/sku/{sku}")
+	public ResponseEntity<ProductDto> lookupBySku(
+			@PathVariable("sku") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String sku) {
+		log.info("*** ProductDto, resource; lookup product by sku *");
+		return ResponseEntity.ok(this.productService.lookupBySku(sku));
+	}
+	
+	@GetMapping("/ids")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAllByIds(
+			@RequestParam("productIds") 
+			@NotEmpty(message = "Input must not be empty!") 
+			@Valid final Set<Integer> productIds) {
+		log.info("*** ProductDto List, resource; fetch products by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAllByIds(productIds)));
 	}
 	
 	@PostMapping
@@ -74,6 +137,18 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.update(Integer.parseInt(productId), productDto));
 	}
 	
+	@PatchMapping("/{productId}")
+	public ResponseEntity<ProductDto> patch(
+			@PathVariable("productId")
+			@NotBlank(message = "Input must not be blank!")
+			@Valid final String productId,
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final ProductDto productDto) {
+		log.info("*** ProductDto, resource; patch product with productId *");
+		return ResponseEntity.ok(this.productService.patch(Integer.parseInt(productId), productDto));
+	}
+	
 	@DeleteMapping("/{productId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("productId") final String productId) {
 		log.info("*** Boolean, resource; delete product by id *");
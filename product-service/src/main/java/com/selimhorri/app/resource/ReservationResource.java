@@ -0,0 +1,78 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.service.ReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/reservations")
+@Slf4j
+@RequiredArgsConstructor
+public class ReservationResource {
+	
+	private final ReservationService reservationService;
+	
+	@GetMapping("/available/{productId}")
+	public ResponseEntity<Integer> findAvailable(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String productId) {
+		log.info("*** Integer, resource; fetch available product quantity *");
+		return ResponseEntity.ok(this.reservationService.findAvailable(Integer.parseInt(productId)));
+	}
+	
+	@PostMapping
+	public ResponseEntity<ReservationDto> reserve(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final ReservationDto reservationDto) {
+		log.info("*** ReservationDto, resource; reserve product quantity *");
+		return ResponseEntity.ok(this.reservationService.reserve(reservationDto));
+	}
+	
+	@PostMapping("/{reservationId}/commit")
+	public ResponseEntity<ReservationDto> commit(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** ReservationDto, resource; commit reservation *");
+		return ResponseEntity.ok(this.reservationService.commit(reservationId));
+	}
+	
+	@DeleteMapping("/{reservationId}")
+	public ResponseEntity<ReservationDto> release(
+			@PathVariable("reservationId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String reservationId) {
+		log.info("*** ReservationDto, resource; release reservation *");
+		return ResponseEntity.ok(this.reservationService.release(reservationId));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,16 +1,25 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	DtoPageResponse<ProductDto> findAll(final Integer after, final int size);
+	List<ProductDto> search(final String query, final Double minPrice, final Double maxPrice, 
+			final boolean fuzzy, final int limit);
 	ProductDto findById(final Integer productId);
+	ProductDto lookupById(final int productId);
+	ProductDto lookupBySku(final String sku);
+	List<ProductDto> findAllByIds(final Collection<Integer> productIds);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
+	ProductDto patch(final Integer productId, final ProductDto productDto);
 	void deleteById(final Integer productId);
 	
 }
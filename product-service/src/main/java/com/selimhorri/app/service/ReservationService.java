@@ -0,0 +1,12 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.ReservationDto;
+
+public interface ReservationService {
+	
+	ReservationDto reserve(final ReservationDto reservationDto);
+	ReservationDto commit(final String reservationId);
+	ReservationDto release(final String reservationId);
+	int findAvailable(final Integer productId);
+	
+}
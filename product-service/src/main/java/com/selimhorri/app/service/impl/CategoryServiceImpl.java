@@ -5,11 +5,18 @@ import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.CategoryTreeDto;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductIndexer;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
 
@@ -23,6 +30,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final CategoryTreeIndex categoryTreeIndex;
+	private final ProductIndexer productIndexer;
 	
 	@Override
 	public List<CategoryDto> findAll() {
@@ -35,6 +44,13 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	public List<CategoryTreeDto> findTree() {
+		log.info("*** CategoryTreeDto List, service; fetch category tree *");
+		return this.categoryTreeIndex.getRoots();
+	}
+	
+	@Override
+	@Cacheable(cacheNames = AppConstant.CacheNames.CATEGORIES, key = "#categoryId")
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
 		return this.categoryRepository.findById(categoryId)
@@ -43,29 +59,49 @@ public class CategoryServiceImpl implements CategoryService {
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
+		this.categoryTreeIndex.invalidate();
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
+		this.categoryTreeIndex.invalidate();
+		if (categoryDto.getCategoryId() != null)
+			this.productIndexer.reindexCategory(categoryDto.getCategoryId());
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
+		this.categoryTreeIndex.invalidate();
+		this.productIndexer.reindexCategory(categoryId);
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(this.findById(categoryId))));
 	}
 	
 	@Override
+	@Caching(evict = {
+			@CacheEvict(cacheNames = AppConstant.CacheNames.CATEGORIES, allEntries = true), 
+			@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, allEntries = true)})
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
+		this.categoryTreeIndex.invalidate();
+		this.productIndexer.reindexCategory(categoryId);
 		this.categoryRepository.deleteById(categoryId);
 	}
 	
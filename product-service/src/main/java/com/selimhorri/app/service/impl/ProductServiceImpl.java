@@ -1,15 +1,30 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductIndexer;
+import com.selimhorri.app.index.ProductLookupTable;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.inventory.InventoryReservationEngine;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
 
@@ -23,6 +38,11 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final CategoryTreeIndex categoryTreeIndex;
+	private final ProductIndexer productIndexer;
+	private final InventoryReservationEngine inventoryReservationEngine;
+	private final ProductLookupTable productLookupTable;
+	private final ProductSearchIndex productSearchIndex;
 	
 	@Override
 	public List<ProductDto> findAll() {
@@ -35,6 +55,25 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	public DtoPageResponse<ProductDto> findAll(final Integer after, final int size) {
+		log.info("*** ProductDto Page, service; fetch page of products *");
+		final var pageable = PageMappingHelper.pageable(size, "productId");
+		return PageMappingHelper.map(after == null 
+				? this.productRepository.findAllBy(pageable) 
+				: this.productRepository.findByProductIdGreaterThan(after, pageable), 
+				size, ProductMappingHelper::map, p -> String.valueOf(p.getProductId()));
+	}
+	
+	@Override
+	public List<ProductDto> search(final String query, final Double minPrice, final Double maxPrice, 
+			final boolean fuzzy, final int limit) {
+		log.info("*** ProductDto List, service; search products *");
+		return this.productSearchIndex.search(query, minPrice, maxPrice, fuzzy, 
+				Math.max(1, Math.min(limit, PageMappingHelper.MAX_PAGE_SIZE)));
+	}
+	
+	@Override
+	@Cacheable(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
 		return this.productRepository.findById(productId)
@@ -42,34 +81,152 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	/**
+	 * Served from the in-memory lookup table; the database is only asked for a 
+	 * product written so recently that the table has not picked it up yet.
+	 */
+	@Override
+	public ProductDto lookupById(final int productId) {
+		final var productDto = this.productLookupTable.findById(productId);
+		if (productDto != null)
+			return productDto;
+		log.info("*** ProductDto, service; lookup table miss for product id *");
+		return this.productRepository.findById(productId)
+				.map(ProductMappingHelper::map)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+	}
+	
+	@Override
+	public ProductDto lookupBySku(final String sku) {
+		final var productDto = this.productLookupTable.findBySku(sku);
+		if (productDto != null)
+			return productDto;
+		log.info("*** ProductDto, service; lookup table miss for product sku *");
+		return this.productRepository.findBySku(sku)
+				.map(ProductMappingHelper::map)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with sku: %s not found", sku)));
+	}
+	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		return this.productRepository.findAllById(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productDto.productId", 
+			condition = "#productDto.productId != null")
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
+		if (this.movesCategory(productDto.getProductId(), productDto.getCategoryDto()))
+			this.categoryTreeIndex.invalidate();
+		final var savedProductDto = ProductMappingHelper.map(this.productRepository
 				.save(ProductMappingHelper.map(productDto)));
+		this.productIndexer.reindex(savedProductDto.getProductId());
+		this.inventoryReservationEngine.refresh(savedProductDto.getProductId());
+		return savedProductDto;
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productDto.productId", 
+			condition = "#productDto.productId != null")
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		return this.update(productDto.getProductId(), productDto);
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		this.requireVersion(productId, productDto.getVersion());
+		final boolean movesCategory = this.movesCategory(productId, productDto.getCategoryDto());
+		this.afterUpdate(productId, productDto.getVersion(), movesCategory, 
+				this.productRepository.updateById(productId, ProductMappingHelper.map(productDto)));
+		return ProductDto.builder()
+				.productId(productId)
+				.productTitle(productDto.getProductTitle())
+				.imageUrl(productDto.getImageUrl())
+				.sku(productDto.getSku())
+				.priceUnit(productDto.getPriceUnit())
+				.quantity(productDto.getQuantity())
+				.version(productDto.getVersion() + 1)
+				.categoryDto(productDto.getCategoryDto())
+				.build();
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
+	public ProductDto patch(final Integer productId, final ProductDto productDto) {
+		log.info("*** ProductDto, service; patch product with productId *");
+		this.requireVersion(productId, productDto.getVersion());
+		final boolean movesCategory = productDto.getCategoryDto() != null 
+				&& this.movesCategory(productId, productDto.getCategoryDto());
+		this.afterUpdate(productId, productDto.getVersion(), movesCategory, 
+				this.productRepository.patchById(productId, ProductMappingHelper.map(productDto)));
+		return this.productRepository.findById(productId)
+				.map(ProductMappingHelper::map)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+	}
+	
+	@Override
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRODUCTS, key = "#productId")
 	public void deleteById(final Integer productId) {
 		log.info("*** Void, service; delete product by id *");
+		this.categoryTreeIndex.invalidate();
+		this.productIndexer.reindex(productId);
+		this.inventoryReservationEngine.refresh(productId);
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
 	}
 	
+	private void requireVersion(final Integer productId, final Integer version) {
+		if (version == null)
+			throw new VersionRequiredException(String.format(
+					"Product with id: %d can only be updated at the version it was read at", productId));
+	}
+	
+	/**
+	 * Updates are a single versioned statement, so no row means either a missing
+	 * product or a stale version; only then is the table asked which one it was.
+	 * A full update already knows every column of the new row, a patch reads the
+	 * merged row back for the response.
+	 */
+	private void afterUpdate(final Integer productId, final Integer version, final boolean movesCategory, 
+			final int updated) {
+		
+		if (updated == 0 && (productId == null || !this.productRepository.existsById(productId)))
+			throw new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+		if (updated == 0)
+			throw new ObjectOptimisticLockingFailureException(String.format(
+					"Product with id: %d is no longer at version %d", productId, version), null);
+		
+		if (movesCategory)
+			this.categoryTreeIndex.invalidate();
+		this.productIndexer.reindex(productId);
+		this.inventoryReservationEngine.refresh(productId);
+	}
+	
+	/**
+	 * Only a product changing category moves a count in the category tree. The
+	 * previous category is taken from the lookup table, which the indexer refreshes
+	 * after each commit; a product it does not know yet counts as moved.
+	 */
+	private boolean movesCategory(final Integer productId, final CategoryDto categoryDto) {
+		if (productId == null)
+			return true;
+		final var current = this.productLookupTable.findById(productId);
+		return current == null || !Objects.equals(categoryId(current.getCategoryDto()), categoryId(categoryDto));
+	}
+	
+	private static Integer categoryId(final CategoryDto categoryDto) {
+		return categoryDto != null ? categoryDto.getCategoryId() : null;
+	}
+	
 	
 	
 }
@@ -0,0 +1,58 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.inventory.InventoryReservationEngine;
+import com.selimhorri.app.service.ReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReservationServiceImpl implements ReservationService {
+	
+	private final InventoryReservationEngine inventoryReservationEngine;
+	
+	@Override
+	public ReservationDto reserve(final ReservationDto reservationDto) {
+		log.info("*** ReservationDto, service; reserve product quantity *");
+		return this.inventoryReservationEngine.reserve(reservationDto.getProductId(), reservationDto.getQuantity(), 
+				reservationDto.getTtlSeconds() != null ? Duration.ofSeconds(reservationDto.getTtlSeconds()) : null);
+	}
+	
+	@Override
+	public ReservationDto commit(final String reservationId) {
+		log.info("*** ReservationDto, service; commit reservation *");
+		return this.inventoryReservationEngine.commit(reservationId);
+	}
+	
+	@Override
+	public ReservationDto release(final String reservationId) {
+		log.info("*** ReservationDto, service; release reservation *");
+		return this.inventoryReservationEngine.release(reservationId);
+	}
+	
+	@Override
+	public int findAvailable(final Integer productId) {
+		log.info("*** Integer, service; fetch available product quantity *");
+		return this.inventoryReservationEngine.findAvailable(productId);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_products_category_id
+  ON products (category_id);
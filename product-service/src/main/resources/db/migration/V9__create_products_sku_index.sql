@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_products_sku
+  ON products (sku);
@@ -0,0 +1,155 @@
+package com.selimhorri.app.index;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.ProductServiceApplication;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+
+/**
+ * Latency of a single product read by id and by sku through JPA (one read-only
+ * transaction and query per call, as ProductServiceImpl issued them) against the
+ * in-memory ProductLookupTable, on an H2 catalog of {@code products} rows.
+ *
+ * Not picked up by surefire; after {@code mvn test-compile} run {@link #main}
+ * (or {@code org.openjdk.jmh.Main ProductLookupBenchmark}) on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductLookupBenchmark {
+	
+	@Param("100000")
+	private int products;
+	
+	private ConfigurableApplicationContext context;
+	private ProductRepository productRepository;
+	private ProductLookupTable productLookupTable;
+	private TransactionTemplate transactionTemplate;
+	private int[] productIds;
+	private String[] skus;
+	private int next;
+	
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.context = new SpringApplicationBuilder(ProductServiceApplication.class)
+				.properties(
+						"eureka.client.enabled=false",
+						"spring.zipkin.enabled=false",
+						"spring.config.import=",
+						"spring.main.web-application-type=none",
+						"app.cache.warm-up.enabled=false",
+						"logging.level.root=warn")
+				.run();
+		this.productRepository = this.context.getBean(ProductRepository.class);
+		this.productLookupTable = this.context.getBean(ProductLookupTable.class);
+		this.transactionTemplate = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+		this.transactionTemplate.setReadOnly(true);
+		
+		final Category category = this.context.getBean(CategoryRepository.class).findAll().get(0);
+		final var saved = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class))
+				.execute(status -> this.productRepository.saveAll(IntStream.range(0, this.products)
+						.mapToObj(i -> Product.builder()
+								.productTitle("benchmark product " + i)
+								.sku("BENCH-" + i)
+								.priceUnit(10.0)
+								.quantity(1)
+								.category(category)
+								.build())
+						.collect(Collectors.toList())));
+		this.context.getBean(ProductIndexer.class).onApplicationReady();
+		
+		this.productIds = saved.stream()
+				.mapToInt(Product::getProductId)
+				.toArray();
+		this.skus = saved.stream()
+				.map(Product::getSku)
+				.toArray(String[]::new);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.context.close();
+	}
+	
+	private int nextIndex() {
+		this.next = (this.next + 7919) % this.productIds.length;
+		return this.next;
+	}
+	
+	@Benchmark
+	public ProductDto jpaFindById() {
+		final int productId = this.productIds[this.nextIndex()];
+		return this.transactionTemplate.execute(status -> this.productRepository.findById(productId)
+				.map(ProductMappingHelper::map)
+				.orElseThrow());
+	}
+	
+	@Benchmark
+	public ProductDto jpaFindBySku() {
+		final String sku = this.skus[this.nextIndex()];
+		return this.transactionTemplate.execute(status -> this.productRepository.findBySku(sku)
+				.map(ProductMappingHelper::map)
+				.orElseThrow());
+	}
+	
+	@Benchmark
+	public ProductDto tableFindById() {
+		return this.productLookupTable.findById(this.productIds[this.nextIndex()]);
+	}
+	
+	@Benchmark
+	public ProductDto tableFindBySku() {
+		return this.productLookupTable.findBySku(this.skus[this.nextIndex()]);
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ProductLookupBenchmark.class.getSimpleName())
+				.build())
+			.run();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -17,6 +17,7 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.util.StreamUtils;
 import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -48,5 +49,17 @@ public class ProductControllerTest {
         });
     }
 
+    @Test
+    public void testSearch_ShouldRejectLimitOutOfRange() {
+        String url = "http://localhost:" + port + "/product-service/api/products/search?q=a&limit=";
 
+        HttpClientErrorException tooSmall = assertThrows(HttpClientErrorException.class,
+                () -> restTemplate.getForEntity(url + 0, String.class));
+        HttpClientErrorException tooLarge = assertThrows(HttpClientErrorException.class,
+                () -> restTemplate.getForEntity(url + 100_000, String.class));
+
+        assertEquals(HttpStatus.BAD_REQUEST, tooSmall.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, tooLarge.getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(url + 5, String.class).getStatusCode());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,227 @@
+package com.selimhorri.app.integration;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryTreeDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductIndexer;
+import com.selimhorri.app.index.ProductLookupTable;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.inventory.InventoryReservationEngine;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.impl.CategoryServiceImpl;
+import com.selimhorri.app.service.impl.ProductServiceImpl;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ProductRepositoryStatementCountTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final CategoryTreeIndex categoryTreeIndex = mock(CategoryTreeIndex.class);
+
+    private final ProductIndexer productIndexer = mock(ProductIndexer.class);
+
+    private final InventoryReservationEngine inventoryReservationEngine = mock(InventoryReservationEngine.class);
+
+    private final ProductLookupTable productLookupTable = mock(ProductLookupTable.class);
+
+    private final ProductSearchIndex productSearchIndex = mock(ProductSearchIndex.class);
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @Test
+    void findAllProducts_ShouldNotWalkCategoryParentChain() {
+        ProductServiceImpl productService = new ProductServiceImpl(productRepository, categoryTreeIndex, productIndexer,
+                inventoryReservationEngine, productLookupTable, productSearchIndex);
+
+        long before = countStatements(() -> productService.findAll());
+        insertCategoryChainWithProducts(20);
+        long after = countStatements(() -> assertTrue(productService.findAll().size() >= 20));
+
+        assertEquals(1, before);
+        assertEquals(before, after);
+    }
+
+    @Test
+    void findAllCategories_ShouldUseConstantStatementCount() {
+        CategoryServiceImpl categoryService = new CategoryServiceImpl(categoryRepository, categoryTreeIndex, productIndexer);
+
+        long before = countStatements(() -> categoryService.findAll());
+        insertCategoryChainWithProducts(20);
+        long after = countStatements(() -> assertTrue(categoryService.findAll().size() >= 20));
+
+        assertEquals(1, before);
+        assertEquals(before, after);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findCategoryById_ShouldBeServedFromSecondLevelCache() {
+        CategoryServiceImpl categoryService = new CategoryServiceImpl(categoryRepository, categoryTreeIndex, productIndexer);
+
+        countStatementsInNewTransaction(() -> categoryService.findById(1));
+        long cached = countStatementsInNewTransaction(() -> categoryService.findById(1));
+
+        assertEquals(0, cached);
+        assertEquals(1, statistics.getDomainDataRegionStatistics(AppConstant.CacheRegions.CATEGORIES).getHitCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findAllCategories_ShouldBeServedFromQueryCache() {
+        CategoryServiceImpl categoryService = new CategoryServiceImpl(categoryRepository, categoryTreeIndex, productIndexer);
+
+        countStatementsInNewTransaction(() -> categoryService.findAll());
+        long cached = countStatementsInNewTransaction(() -> categoryService.findAll());
+
+        assertEquals(0, cached);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void categoryTree_ShouldBeBuiltInTwoStatementsAndServedFromMemory() {
+        CategoryTreeIndex index = new CategoryTreeIndex(categoryRepository, productRepository, transactionManager);
+
+        statistics.clear();
+        List<CategoryTreeDto> roots = index.rebuild();
+        long build = statistics.getPrepareStatementCount();
+        long read = countStatementsInNewTransaction(() -> assertSame(roots, index.getRoots()));
+
+        assertEquals(2, build);
+        assertEquals(0, read);
+        assertEquals(productRepository.count(), roots.stream().mapToLong(CategoryTreeDto::getTotalProductCount).sum());
+    }
+
+    @Test
+    void patchProduct_ShouldUpdateWithoutLoadingTheRowFirst() {
+        ProductServiceImpl productService = new ProductServiceImpl(productRepository, categoryTreeIndex, productIndexer,
+                inventoryReservationEngine, productLookupTable, productSearchIndex);
+        Product product = productRepository.findById(1).orElseThrow();
+
+        ProductDto[] patched = new ProductDto[1];
+        long statements = countStatements(() -> patched[0] = productService.patch(1, ProductDto.builder()
+                .priceUnit(1.5)
+                .version(product.getVersion())
+                .build()));
+
+        assertEquals(2, statements);
+        assertEquals(1.5, patched[0].getPriceUnit());
+        assertEquals(product.getProductTitle(), patched[0].getProductTitle());
+        assertEquals(product.getCategory().getCategoryId(), patched[0].getCategoryDto().getCategoryId());
+        assertEquals(product.getVersion() + 1, patched[0].getVersion());
+    }
+
+    @Test
+    void updateProduct_ShouldIssueOnlyTheUpdateStatement() {
+        ProductServiceImpl productService = new ProductServiceImpl(productRepository, categoryTreeIndex, productIndexer,
+                inventoryReservationEngine, productLookupTable, productSearchIndex);
+        ProductDto product = productService.findById(1);
+        product.setPriceUnit(2.5);
+
+        ProductDto[] updated = new ProductDto[1];
+        long statements = countStatements(() -> updated[0] = productService.update(1, product));
+
+        assertEquals(1, statements);
+        assertEquals(product.getVersion() + 1, updated[0].getVersion());
+        assertEquals(updated[0].getVersion(), productRepository.findById(1).orElseThrow().getVersion());
+        assertEquals(2.5, productRepository.findById(1).orElseThrow().getPriceUnit());
+    }
+
+    @Test
+    void updateProduct_ShouldConflictOnStaleOrMissingVersion() {
+        ProductServiceImpl productService = new ProductServiceImpl(productRepository, categoryTreeIndex, productIndexer,
+                inventoryReservationEngine, productLookupTable, productSearchIndex);
+        ProductDto product = productService.findById(1);
+
+        productService.update(1, product);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> productService.update(1, product));
+        product.setVersion(null);
+        assertThrows(VersionRequiredException.class, () -> productService.update(1, product));
+        assertThrows(VersionRequiredException.class, () -> productService.patch(1, product));
+    }
+
+    @Test
+    void productCategory_ShouldStayUnloadedOutsideEntityGraph() {
+        entityManager.clear();
+        Product product = entityManager.find(Product.class, 1);
+
+        assertFalse(Hibernate.isInitialized(product.getCategory()));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long countStatementsInNewTransaction(Runnable action) {
+        statistics.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void insertCategoryChainWithProducts(int depth) {
+        Category parent = null;
+        for (int i = 0; i < depth; i++) {
+            Category category = entityManager.persist(Category.builder()
+                    .categoryTitle("category" + i)
+                    .parentCategory(parent)
+                    .build());
+            entityManager.persist(Product.builder()
+                    .productTitle("product" + i)
+                    .sku("statement-count-sku" + i)
+                    .priceUnit(10.0)
+                    .quantity(1)
+                    .category(category)
+                    .build());
+            parent = category;
+        }
+        entityManager.flush();
+    }
+}
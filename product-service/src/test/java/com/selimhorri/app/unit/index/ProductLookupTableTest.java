@@ -0,0 +1,71 @@
+package com.selimhorri.app.unit.index;
+
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.index.ProductLookupTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProductLookupTableTest {
+
+    private ProductLookupTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new ProductLookupTable();
+    }
+
+    @Test
+    void put_ShouldBeFoundByIdAndSkuAcrossResizes() {
+        for (int productId = 1; productId <= 5000; productId++)
+            table.put(product(productId, "SKU-" + productId, 1));
+
+        assertEquals(5000, table.size());
+        assertEquals("SKU-4321", table.findById(4321).getSku());
+        assertEquals(4321, table.findBySku("SKU-4321").getProductId());
+        assertNull(table.findById(5001));
+        assertNull(table.findBySku("SKU-5001"));
+    }
+
+    @Test
+    void remove_ShouldKeepRemainingEntriesReachable() {
+        for (int productId = 1; productId <= 2000; productId++)
+            table.put(product(productId, "SKU-" + productId, 1));
+        for (int productId = 1; productId <= 2000; productId += 2)
+            table.remove(productId);
+
+        assertEquals(1000, table.size());
+        for (int productId = 1; productId <= 2000; productId++) {
+            boolean kept = productId % 2 == 0;
+            assertEquals(kept, table.findById(productId) != null);
+            assertEquals(kept, table.findBySku("SKU-" + productId) != null);
+        }
+    }
+
+    @Test
+    void put_ShouldReplaceChangedSkuAndCategory() {
+        table.put(product(1, "OLD", 1));
+        table.put(product(1, "NEW", 2));
+
+        assertEquals(1, table.size());
+        assertNull(table.findBySku("OLD"));
+        assertEquals(1, table.findBySku("NEW").getProductId());
+        assertTrue(table.findAllIdsByCategoryId(1).isEmpty());
+        assertEquals(List.of(1), List.copyOf(table.findAllIdsByCategoryId(2)));
+    }
+
+    private static ProductDto product(int productId, String sku, int categoryId) {
+        return ProductDto.builder()
+                .productId(productId)
+                .productTitle("product" + productId)
+                .sku(sku)
+                .priceUnit(10.0)
+                .quantity(1)
+                .categoryDto(CategoryDto.builder().categoryId(categoryId).build())
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.selimhorri.app.unit.index;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.index.ProductIndexer;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchIndex index;
+
+    private ProductIndexer indexer;
+
+    private final Category laptops = Category.builder().categoryId(1).categoryTitle("Laptops").build();
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        indexer = new ProductIndexer(productRepository, List.of(index), transactionManager);
+        index(product(1, "Asus Zenbook", "ASUS-ZB-14", 999.0, laptops));
+        index(product(2, "Dell XPS", "DELL-XPS-13", 1299.0, laptops));
+        index(product(3, "Gaming Mouse", "LOGI-G502", 49.0, Category.builder().categoryId(2).categoryTitle("Accessories").build()));
+    }
+
+    @Test
+    void search_ShouldMatchTitlePrefixesAndSkus() {
+        assertEquals(List.of(1), ids(index.search("zenb", null, null, true, 20)));
+        assertEquals(List.of(3), ids(index.search("logi-g5", null, null, true, 20)));
+        assertEquals(List.of(1, 2), ids(index.search("laptops", null, null, true, 20)));
+    }
+
+    @Test
+    void search_ShouldTolerateOneTypoOnlyWhenFuzzy() {
+        assertEquals(List.of(3), ids(index.search("mosue", null, null, true, 20)));
+        assertEquals(List.of(3), ids(index.search("gamming", null, null, true, 20)));
+        assertTrue(index.search("mosue", null, null, false, 20).isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankExactMatchesFirstAndApplyPriceRange() {
+        index(product(4, "Zen Speaker", "ZEN-SPK", 199.0, Category.builder().categoryId(2).categoryTitle("Accessories").build()));
+
+        assertEquals(List.of(4, 1), ids(index.search("zen", null, null, true, 20)));
+        assertEquals(List.of(2), ids(index.search("dell laptops", null, null, true, 20)));
+        assertEquals(List.of(1), ids(index.search("laptops", null, 1000.0, true, 20)));
+        assertEquals(List.of(3, 4), ids(index.search(null, null, 1000.0, true, 2)));
+    }
+
+    @Test
+    void indexer_ShouldDropDeletedProductsAndRenamedTerms() {
+        when(productRepository.findById(1)).thenReturn(Optional.empty());
+        indexer.reindex(1);
+        when(productRepository.findAllByCategoryCategoryId(2)).thenReturn(List.of(
+                product(3, "Gaming Mouse", "LOGI-G502", 49.0, Category.builder().categoryId(2).categoryTitle("Peripherals").build())));
+        indexer.reindexCategory(2);
+
+        assertTrue(index.search("zenbook", null, null, true, 20).isEmpty());
+        assertTrue(index.search("accessories", null, null, true, 20).isEmpty());
+        assertEquals(List.of(3), ids(index.search("peripherals", null, null, true, 20)));
+    }
+
+    private void index(Product product) {
+        index.put(ProductMappingHelper.map(product));
+    }
+
+    private static Product product(int productId, String title, String sku, double price, Category category) {
+        return Product.builder()
+                .productId(productId)
+                .productTitle(title)
+                .sku(sku)
+                .priceUnit(price)
+                .quantity(1)
+                .category(category)
+                .build();
+    }
+
+    private static List<Integer> ids(List<ProductDto> products) {
+        return products.stream()
+                .map(ProductDto::getProductId)
+                .collect(Collectors.toList());
+    }
+}
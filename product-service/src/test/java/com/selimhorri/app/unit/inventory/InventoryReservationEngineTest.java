@@ -0,0 +1,185 @@
+package com.selimhorri.app.unit.inventory;
+
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.ReservationNotFoundException;
+import com.selimhorri.app.index.ProductIndexer;
+import com.selimhorri.app.inventory.InventoryReservationEngine;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.unit.util.ProductUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InventoryReservationEngineTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ProductIndexer productIndexer;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InventoryReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new InventoryReservationEngine(productRepository, jdbcTemplate, transactionManager,
+                productIndexer, cacheManager, meterRegistry, Duration.ofMinutes(10));
+        when(productRepository.findById(1)).thenReturn(Optional.of(ProductUtil.getSampleProduct()));
+    }
+
+    @Test
+    void reserve_ShouldNeverOversellUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            attempts.add(() -> {
+                try {
+                    engine.reserve(1, 1, null);
+                    return true;
+                }
+                catch (InsufficientStockException e) {
+                    return false;
+                }
+            });
+
+        long reserved = 0;
+        for (Future<Boolean> attempt : executor.invokeAll(attempts))
+            if (attempt.get())
+                reserved++;
+        executor.shutdown();
+
+        assertEquals(10, reserved);
+        assertEquals(0, engine.findAvailable(1));
+    }
+
+    @Test
+    void refresh_ShouldNotOversellWhileReservationsAndCommitsRace() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<Callable<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            attempts.add(() -> {
+                try {
+                    engine.commit(engine.reserve(1, 1, null).getReservationId());
+                    return true;
+                }
+                catch (InsufficientStockException e) {
+                    return false;
+                }
+            });
+            attempts.add(() -> {
+                engine.refresh(1);
+                return false;
+            });
+        }
+
+        long sold = 0;
+        for (Future<Boolean> attempt : executor.invokeAll(attempts))
+            if (attempt.get())
+                sold++;
+        executor.shutdown();
+        engine.refresh(1);
+
+        assertEquals(10, sold);
+        assertEquals(0, engine.findAvailable(1));
+    }
+
+    @Test
+    void release_ShouldReturnQuantityAndCloseReservation() {
+        ReservationDto reservation = engine.reserve(1, 4, null);
+
+        assertEquals(ReservationStatus.RELEASED, engine.release(reservation.getReservationId()).getStatus());
+        assertEquals(10, engine.findAvailable(1));
+        assertThrows(ReservationNotFoundException.class, () -> engine.commit(reservation.getReservationId()));
+    }
+
+    @Test
+    void expire_ShouldReleaseReservationsPastTheirTtl() {
+        ReservationDto reservation = engine.reserve(1, 4, Duration.ofNanos(1));
+
+        engine.expire();
+
+        assertEquals(10, engine.findAvailable(1));
+        assertThrows(ReservationNotFoundException.class, () -> engine.commit(reservation.getReservationId()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteCommittedQuantitiesInOneGuardedBatch() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] {{1}});
+        engine.commit(engine.reserve(1, 3, null).getReservationId());
+        engine.commit(engine.reserve(1, 2, null).getReservationId());
+        engine.reserve(1, 1, null);
+
+        engine.flush();
+        engine.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<Integer, Integer>>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(contains("quantity >= ?"), batch.capture(), eq(1), any());
+        assertEquals(List.of(Map.entry(1, 5)), List.copyOf(batch.getValue()));
+        assertEquals(4, engine.findAvailable(1));
+        verify(productIndexer).reindexAll(Set.of(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldKeepAndReportRejectedQuantities() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][] {{0}}, new int[][] {{1}});
+        engine.commit(engine.reserve(1, 3, null).getReservationId());
+
+        engine.flush();
+
+        assertEquals(3.0, meterRegistry.counter("inventory.flush.rejected").count());
+        assertEquals(7, engine.findAvailable(1));
+
+        engine.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        engine.refresh(1);
+        engine.flush();
+
+        ArgumentCaptor<Collection<Map.Entry<Integer, Integer>>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), batch.capture(), anyInt(), any());
+        assertEquals(List.of(Map.entry(1, 3)), List.copyOf(batch.getValue()));
+    }
+}
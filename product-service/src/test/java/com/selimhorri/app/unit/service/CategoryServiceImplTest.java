@@ -11,6 +11,8 @@ import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductIndexer;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.impl.CategoryServiceImpl;
 import com.selimhorri.app.unit.util.CategoryUtil;
@@ -29,6 +31,12 @@ class CategoryServiceImplTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ProductIndexer productIndexer;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -1,6 +1,15 @@
 package com.selimhorri.app.unit.service;
 
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
+import com.selimhorri.app.index.CategoryTreeIndex;
+import com.selimhorri.app.index.ProductIndexer;
+import com.selimhorri.app.index.ProductLookupTable;
+import com.selimhorri.app.index.ProductSearchIndex;
+import com.selimhorri.app.inventory.InventoryReservationEngine;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
 import com.selimhorri.app.unit.util.ProductUtil;
@@ -10,8 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,6 +34,21 @@ public class ProductServiceImplTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @Mock
+    private ProductIndexer productIndexer;
+
+    @Mock
+    private InventoryReservationEngine inventoryReservationEngine;
+
+    @Mock
+    private ProductLookupTable productLookupTable;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -43,4 +70,104 @@ public class ProductServiceImplTest {
         assertEquals(product.getProductTitle(), result.getProductTitle());
         assertEquals(product.getImageUrl(), result.getImageUrl());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testFindAllByIds_ShouldReturnOnlyRequestedProducts() {
+        when(productRepository.findAllById(Set.of(1))).thenReturn(ProductUtil.getSampleProducts());
+
+        List<ProductDto> result = productService.findAllByIds(Set.of(1));
+
+        assertEquals(1, result.size());
+        assertEquals(product.getProductId(), result.get(0).getProductId());
+        verify(productRepository, never()).findAll();
+    }
+
+    @Test
+    void testFindAllPage_ShouldReturnNextCursorWhenMoreRowsExist() {
+        Product next = ProductUtil.getSampleProduct();
+        next.setProductId(2);
+        when(productRepository.findByProductIdGreaterThan(eq(0), any()))
+                .thenReturn(List.of(ProductUtil.getSampleProduct(), next));
+
+        DtoPageResponse<ProductDto> result = productService.findAll(0, 1);
+
+        assertEquals(1, result.getCollection().size());
+        assertEquals(product.getProductId(), result.getCollection().get(0).getProductId());
+        assertEquals("1", result.getNext());
+    }
+
+    @Test
+    void testLookupBySku_ShouldNotQueryRepositoryOnTableHit() {
+        when(productLookupTable.findBySku("SKU12345")).thenReturn(product);
+
+        ProductDto result = productService.lookupBySku("SKU12345");
+
+        assertSame(product, result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testLookupById_ShouldFallBackToRepositoryOnTableMiss() {
+        when(productRepository.findById(1)).thenReturn(Optional.of(ProductUtil.getSampleProduct()));
+
+        ProductDto result = productService.lookupById(1);
+
+        assertEquals(product.getProductId(), result.getProductId());
+        verify(productLookupTable).findById(1);
+    }
+
+    @Test
+    void testPatch_ShouldIssueTargetedUpdateAndReturnUpdatedRow() {
+        ProductDto patch = ProductDto.builder().priceUnit(5.0).version(0).build();
+        when(productRepository.patchById(eq(1), any())).thenReturn(1);
+        when(productRepository.findById(1)).thenReturn(Optional.of(ProductUtil.getSampleProduct()));
+
+        ProductDto result = productService.patch(1, patch);
+
+        assertEquals(product.getProductId(), result.getProductId());
+        verify(productRepository, never()).save(any());
+        verify(productIndexer).reindex(1);
+        verify(inventoryReservationEngine).refresh(1);
+    }
+
+    @Test
+    void testUpdate_ShouldConflictWhenVersionIsStale() {
+        when(productRepository.updateById(eq(1), any())).thenReturn(0);
+        when(productRepository.existsById(1)).thenReturn(true);
+        product.setVersion(3);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> productService.update(1, product));
+        verify(productIndexer, never()).reindex(any());
+    }
+
+    @Test
+    void testUpdate_ShouldRebuildCategoryTreeOnlyWhenCategoryChanges() {
+        when(productRepository.updateById(eq(1), any())).thenReturn(1);
+        when(productLookupTable.findById(1)).thenReturn(ProductUtil.getSampleProductDto());
+        product.setVersion(0);
+
+        productService.update(1, product);
+        verify(categoryTreeIndex, never()).invalidate();
+
+        product.getCategoryDto().setCategoryId(2);
+        productService.update(1, product);
+        verify(categoryTreeIndex).invalidate();
+    }
+
+    @Test
+    void testUpdate_ShouldRequireVersion() {
+        product.setVersion(null);
+
+        assertThrows(VersionRequiredException.class, () -> productService.update(1, product));
+        verify(productRepository, never()).updateById(any(), any());
+    }
+
+    @Test
+    void testPatch_ShouldFailWhenProductIsMissing() {
+        when(productRepository.patchById(eq(42), any())).thenReturn(0);
+        when(productRepository.existsById(42)).thenReturn(false);
+        product.setVersion(0);
+
+        assertThrows(ProductNotFoundException.class, () -> productService.patch(42, product));
+    }
+}
@@ -0,0 +1,43 @@
+package com.selimhorri.app.business.checkout.model.request;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CheckoutRequest implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Existing cart to check out; when absent a new cart is opened for {@code userId}.
+	 */
+	private Integer cartId;
+	private Integer userId;
+	private String orderDesc;
+	
+	@Valid
+	@NotEmpty(message = "Input must not be empty")
+	private List<CheckoutItemRequest> items;
+	
+}
+
+
+
+
+
+
+
+
+
+
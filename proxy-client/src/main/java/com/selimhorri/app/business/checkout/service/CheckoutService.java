@@ -0,0 +1,20 @@
+package com.selimhorri.app.business.checkout.service;
+
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+
+public interface CheckoutService {
+	
+	CheckoutResponse checkout(final CheckoutRequest checkoutRequest);
+	
+}
+
+
+
+
+
+
+
+
+
+
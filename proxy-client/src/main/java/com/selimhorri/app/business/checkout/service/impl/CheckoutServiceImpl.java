@@ -0,0 +1,227 @@
+package com.selimhorri.app.business.checkout.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.checkout.model.request.CheckoutItemRequest;
+import com.selimhorri.app.business.checkout.model.request.CheckoutRequest;
+import com.selimhorri.app.business.checkout.model.response.CheckoutResponse;
+import com.selimhorri.app.business.checkout.service.CheckoutService;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemBatchOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemBatchResult;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.PaymentStatus;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.product.service.ProductClientService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Places an order in one client round-trip: cart, pricing, order, items and payment
+ * are created server side, independent calls run concurrently on the aggregation pool
+ * and every created resource is deleted again in reverse order when a later step fails.
+ * Lines for the same product are merged first, so the order fee covers exactly the
+ * items the batch save accepts; every wait on the pool is bounded by the aggregation timeout.
+ * A timed-out step keeps running, so compensation first lets every started step settle
+ * and a resource created after the deadline is deleted along with the others.
+ */
+@Service
+@Slf4j
+public class CheckoutServiceImpl implements CheckoutService {
+	
+	private final CartClientService cartClientService;
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ProductClientService productClientService;
+	private final ExecutorService aggregationExecutor;
+	private final Duration timeout;
+	
+	public CheckoutServiceImpl(final CartClientService cartClientService,
+			final OrderClientService orderClientService,
+			final OrderItemClientService orderItemClientService,
+			final PaymentClientService paymentClientService,
+			final ProductClientService productClientService,
+			@Qualifier("aggregationExecutor") final ExecutorService aggregationExecutor,
+			@Value("${app.aggregation.timeout:2s}") final Duration timeout) {
+		this.cartClientService = cartClientService;
+		this.orderClientService = orderClientService;
+		this.orderItemClientService = orderItemClientService;
+		this.paymentClientService = paymentClientService;
+		this.productClientService = productClientService;
+		this.aggregationExecutor = aggregationExecutor;
+		this.timeout = timeout;
+	}
+	
+	@Override
+	public CheckoutResponse checkout(final CheckoutRequest checkoutRequest) {
+		log.info("*** CheckoutResponse, service; checkout cart *");
+		
+		final Deque<Runnable> compensations = new ConcurrentLinkedDeque<>();
+		final List<CompletableFuture<?>> steps = new ArrayList<>();
+		try {
+			
+			final var items = this.mergeItems(checkoutRequest.getItems());
+			final var cartFuture = this.supply(steps, () -> this.resolveCart(checkoutRequest, compensations));
+			final var priceFutures = items.stream()
+					.map(item -> this.supply(steps, () -> this.price(item)))
+					.collect(Collectors.toUnmodifiableList());
+			final var orderFeeFuture = CompletableFuture.allOf(priceFutures.toArray(CompletableFuture[]::new))
+					.thenApply(done -> priceFutures.stream()
+							.mapToDouble(CompletableFuture::join)
+							.sum());
+			
+			final var orderDto = this.orderClientService.save(OrderDto.builder()
+					.orderDate(LocalDateTime.now())
+					.orderDesc(checkoutRequest.getOrderDesc())
+					.orderFee(orderFeeFuture.join())
+					.cartDto(cartFuture.join())
+					.build()).getBody();
+			compensations.push(() -> this.orderClientService.deleteById(String.valueOf(orderDto.getOrderId())));
+			
+			final var orderItemsFuture = this.supply(steps, () -> this.saveOrderItems(items, orderDto, compensations));
+			final var paymentFuture = this.supply(steps, () -> this.savePayment(orderDto, compensations));
+			CompletableFuture.allOf(orderItemsFuture, paymentFuture).join();
+			
+			return CheckoutResponse.builder()
+					.orderDto(orderDto)
+					.orderItems(orderItemsFuture.join().getCollection())
+					.paymentDto(paymentFuture.join())
+					.build();
+		}
+		catch (RuntimeException e) {
+			final var cause = e instanceof CompletionException && e.getCause() instanceof TimeoutException ?
+					new IllegalStateException(String.format("Checkout step did not complete within %s", this.timeout)) :
+					e instanceof CompletionException && e.getCause() instanceof RuntimeException ?
+							(RuntimeException) e.getCause() : e;
+			CompletableFuture.allOf(steps.toArray(CompletableFuture[]::new))
+					.handle((done, failure) -> done)
+					.join();
+			log.info("*** CheckoutResponse, service; checkout failed, compensating {} step(s) *", compensations.size());
+			compensations.forEach(this::compensate);
+			throw cause;
+		}
+	}
+	
+	/**
+	 * The returned future times out, the task recorded in {@code steps} does not; 
+	 * its own Feign call bounds it.
+	 */
+	private <T> CompletableFuture<T> supply(final List<CompletableFuture<?>> steps, final Supplier<T> supplier) {
+		final var step = CompletableFuture.supplyAsync(supplier, this.aggregationExecutor);
+		steps.add(step);
+		return step.copy()
+				.orTimeout(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+	}
+	
+	private List<CheckoutItemRequest> mergeItems(final List<CheckoutItemRequest> items) {
+		return List.copyOf(items.stream()
+				.collect(Collectors.toMap(CheckoutItemRequest::getProductId,
+						item -> CheckoutItemRequest.builder()
+								.productId(item.getProductId())
+								.orderedQuantity(item.getOrderedQuantity())
+								.build(),
+						(merged, item) -> {
+							merged.setOrderedQuantity(merged.getOrderedQuantity() + item.getOrderedQuantity());
+							return merged;
+						},
+						LinkedHashMap::new))
+				.values());
+	}
+	
+	private CartDto resolveCart(final CheckoutRequest checkoutRequest, final Deque<Runnable> compensations) {
+		
+		if (checkoutRequest.getCartId() != null)
+			return CartDto.builder().cartId(checkoutRequest.getCartId()).build();
+		if (checkoutRequest.getUserId() == null)
+			throw new IllegalStateException("Either cartId or userId must be provided");
+		
+		final var cartDto = this.cartClientService.save(CartDto.builder()
+				.userId(checkoutRequest.getUserId())
+				.build()).getBody();
+		compensations.push(() -> this.cartClientService.deleteById(String.valueOf(cartDto.getCartId())));
+		return CartDto.builder().cartId(cartDto.getCartId()).build();
+	}
+	
+	private double price(final CheckoutItemRequest item) {
+		final var productDto = this.productClientService
+				.findById(String.valueOf(item.getProductId())).getBody();
+		return productDto.getPriceUnit() * item.getOrderedQuantity();
+	}
+	
+	private OrderItemBatchOrderItemServiceDtoCollectionResponse saveOrderItems(
+			final List<CheckoutItemRequest> items, final OrderDto orderDto, final Deque<Runnable> compensations) {
+		
+		final var response = this.orderItemClientService.saveAll(items.stream()
+				.map(item -> OrderItemDto.builder()
+						.productId(item.getProductId())
+						.orderId(orderDto.getOrderId())
+						.orderedQuantity(item.getOrderedQuantity())
+						.build())
+				.collect(Collectors.toUnmodifiableList())).getBody();
+		
+		response.getCollection().stream()
+				.filter(result -> "CREATED".equals(result.getStatus()))
+				.map(OrderItemBatchResult::getItem)
+				.forEach(created -> compensations.push(() -> this.orderItemClientService.deleteById(
+						String.valueOf(created.getOrderId()), String.valueOf(created.getProductId()))));
+		return response;
+	}
+	
+	private PaymentDto savePayment(final OrderDto orderDto, final Deque<Runnable> compensations) {
+		
+		final var paymentDto = this.paymentClientService.save(PaymentDto.builder()
+				.isPayed(false)
+				.paymentStatus(PaymentStatus.NOT_STARTED)
+				.orderDto(com.selimhorri.app.business.payment.model.OrderDto.builder()
+						.orderId(orderDto.getOrderId())
+						.build())
+				.build()).getBody();
+		compensations.push(() -> this.paymentClientService.deleteById(String.valueOf(paymentDto.getPaymentId())));
+		return paymentDto;
+	}
+	
+	private void compensate(final Runnable compensation) {
+		try {
+			compensation.run();
+		}
+		catch (RuntimeException e) {
+			log.warn("*** CheckoutResponse, service; compensation failed: {} *", e.getMessage());
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
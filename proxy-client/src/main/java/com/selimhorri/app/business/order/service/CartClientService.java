@@ -15,8 +15,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.selimhorri.app.business.order.model.CartDto;
 import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.AggregationClientConfig;
 
-@FeignClient(name = "ORDER-SERVICE", contextId = "cartClientService", path = "/order-service/api/carts")
+@FeignClient(name = "ORDER-SERVICE", contextId = "cartClientService", path = "/order-service/api/carts", configuration = AggregationClientConfig.class)
 public interface CartClientService {
 	
 	@GetMapping
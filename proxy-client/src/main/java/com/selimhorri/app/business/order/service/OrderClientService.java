@@ -15,8 +15,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.AggregationClientConfig;
 
-@FeignClient(name = "ORDER-SERVICE", contextId = "orderClientService", path = "/order-service/api/orders")
+@FeignClient(name = "ORDER-SERVICE", contextId = "orderClientService", path = "/order-service/api/orders", configuration = AggregationClientConfig.class)
 public interface OrderClientService {
 	
 	@GetMapping
@@ -0,0 +1,41 @@
+package com.selimhorri.app.business.orderDetails.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.orderDetails.model.response.OrderDetailsResponse;
+import com.selimhorri.app.business.orderDetails.service.OrderDetailsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/order-details")
+@Slf4j
+@RequiredArgsConstructor
+public class OrderDetailsController {
+	
+	private final OrderDetailsService orderDetailsService;
+	
+	@GetMapping("/{orderId}")
+	public ResponseEntity<OrderDetailsResponse> findById(@PathVariable("orderId") final String orderId) {
+		log.info("*** OrderDetailsResponse, controller; fetch order details by order id *");
+		return ResponseEntity.ok(this.orderDetailsService.findById(orderId));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.business.orderDetails.model.response;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderDetailsResponse implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("order")
+	private OrderDto orderDto;
+	
+	private Collection<OrderItemDto> orderItems;
+	
+	private Collection<PaymentDto> payments;
+	
+	/**
+	 * Sections (orderItems, products, payments) that timed out or failed downstream 
+	 * and are therefore empty or incomplete in this response.
+	 */
+	private Set<String> degraded;
+	
+}
+
+
+
+
+
+
+
+
+
+
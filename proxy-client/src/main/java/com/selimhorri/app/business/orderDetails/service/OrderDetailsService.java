@@ -0,0 +1,19 @@
+package com.selimhorri.app.business.orderDetails.service;
+
+import com.selimhorri.app.business.orderDetails.model.response.OrderDetailsResponse;
+
+public interface OrderDetailsService {
+	
+	OrderDetailsResponse findById(final String orderId);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,169 @@
+package com.selimhorri.app.business.orderDetails.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.orderDetails.model.response.OrderDetailsResponse;
+import com.selimhorri.app.business.orderDetails.service.OrderDetailsService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.ProductDto;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.product.service.ProductClientService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds the order page in one request: the order, its items and its payments are
+ * fetched concurrently, then every distinct product of the items. All calls share one
+ * deadline; the order itself is mandatory, any other section that fails or misses the
+ * deadline is returned empty and listed as degraded. The deadline only releases the
+ * caller; the Feign connect and read timeouts, no longer than it, free the pool thread.
+ */
+@Service
+@Slf4j
+public class OrderDetailsServiceImpl implements OrderDetailsService {
+	
+	static final String ORDER_ITEMS = "orderItems";
+	static final String PRODUCTS = "products";
+	static final String PAYMENTS = "payments";
+	
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ProductClientService productClientService;
+	private final ExecutorService aggregationExecutor;
+	private final Duration timeout;
+	
+	public OrderDetailsServiceImpl(final OrderClientService orderClientService,
+			final OrderItemClientService orderItemClientService,
+			final PaymentClientService paymentClientService,
+			final ProductClientService productClientService,
+			@Qualifier("aggregationExecutor") final ExecutorService aggregationExecutor,
+			@Value("${app.aggregation.timeout:2s}") final Duration timeout) {
+		this.orderClientService = orderClientService;
+		this.orderItemClientService = orderItemClientService;
+		this.paymentClientService = paymentClientService;
+		this.productClientService = productClientService;
+		this.aggregationExecutor = aggregationExecutor;
+		this.timeout = timeout;
+	}
+	
+	@Override
+	public OrderDetailsResponse findById(final String orderId) {
+		log.info("*** OrderDetailsResponse, service; fetch order details by order id *");
+		
+		final long deadline = System.nanoTime() + this.timeout.toNanos();
+		final Set<String> degraded = ConcurrentHashMap.newKeySet();
+		
+		final var orderFuture = this.supply(() -> this.orderClientService.findById(orderId).getBody(), deadline);
+		final var paymentsFuture = this.optional(PAYMENTS,
+				() -> this.paymentClientService.findAllByOrderId(orderId).getBody().getCollection(),
+				List.<PaymentDto>of(), deadline, degraded);
+		final var orderItemsFuture = this.optional(ORDER_ITEMS,
+				() -> this.orderItemClientService.findAllByOrderId(orderId).getBody().getCollection(),
+				List.<OrderItemDto>of(), deadline, degraded)
+				.thenCompose(orderItems -> this.attachProducts(orderItems, deadline, degraded));
+		
+		final OrderDto orderDto;
+		try {
+			orderDto = orderFuture.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof TimeoutException)
+				throw new IllegalStateException(String.format("Order with id: %s could not be fetched within %s",
+						orderId, this.timeout));
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+		}
+		
+		return OrderDetailsResponse.builder()
+				.orderDto(orderDto)
+				.orderItems(orderItemsFuture.join())
+				.payments(paymentsFuture.join())
+				.degraded(Set.copyOf(degraded))
+				.build();
+	}
+	
+	private CompletableFuture<Collection<OrderItemDto>> attachProducts(final Collection<OrderItemDto> orderItems,
+			final long deadline, final Set<String> degraded) {
+		
+		final Map<Integer, CompletableFuture<ProductDto>> products = orderItems.stream()
+				.map(OrderItemDto::getProductId)
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toUnmodifiableMap(Function.identity(), productId -> this.optional(PRODUCTS,
+						() -> this.findProduct(productId), null, deadline, degraded)));
+		
+		return CompletableFuture.allOf(products.values().toArray(CompletableFuture[]::new))
+				.thenApply(done -> {
+					orderItems.forEach(orderItem -> {
+						final var productDto = products.containsKey(orderItem.getProductId()) ?
+								products.get(orderItem.getProductId()).join() : null;
+						if (productDto != null)
+							orderItem.setProductDto(productDto);
+					});
+					return orderItems;
+				});
+	}
+	
+	private ProductDto findProduct(final Integer productId) {
+		final var productDto = this.productClientService.findById(String.valueOf(productId)).getBody();
+		return ProductDto.builder()
+				.productId(productDto.getProductId())
+				.productTitle(productDto.getProductTitle())
+				.imageUrl(productDto.getImageUrl())
+				.sku(productDto.getSku())
+				.priceUnit(productDto.getPriceUnit())
+				.quantity(productDto.getQuantity())
+				.build();
+	}
+	
+	private <T> CompletableFuture<T> supply(final Supplier<T> supplier, final long deadline) {
+		return CompletableFuture.supplyAsync(supplier, this.aggregationExecutor)
+				.orTimeout(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+	
+	private <T> CompletableFuture<T> optional(final String section, final Supplier<T> supplier, final T fallback,
+			final long deadline, final Set<String> degraded) {
+		return this.supply(supplier, deadline)
+				.exceptionally(e -> {
+					log.warn("*** OrderDetailsResponse, service; {} degraded: {} *", section,
+							e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+					degraded.add(section);
+					return fallback;
+				});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
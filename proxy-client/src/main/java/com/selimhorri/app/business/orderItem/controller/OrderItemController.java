@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.orderItem.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 import com.selimhorri.app.business.orderItem.model.OrderItemId;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemBatchOrderItemServiceDtoCollectionResponse;
 import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
 import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
 
@@ -47,6 +50,11 @@ public class OrderItemController {
 		return ResponseEntity.ok(this.orderItemClientService.save(orderItemDto).getBody());
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<OrderItemBatchOrderItemServiceDtoCollectionResponse> saveAll(@RequestBody final List<OrderItemDto> orderItemDtos) {
+		return ResponseEntity.ok(this.orderItemClientService.saveAll(orderItemDtos).getBody());
+	}
+	
 	@PutMapping
 	public ResponseEntity<OrderItemDto> update(@RequestBody final OrderItemDto orderItemDto) {
 		return ResponseEntity.ok(this.orderItemClientService.update(orderItemDto).getBody());
@@ -0,0 +1,41 @@
+package com.selimhorri.app.business.orderItem.model.response;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderItemBatchResult implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private int index;
+	private String status;
+	
+	@JsonInclude(Include.NON_NULL)
+	private OrderItemDto item;
+	
+	@JsonInclude(Include.NON_NULL)
+	private String message;
+	
+}
+
+
+
+
+
+
+
+
+
+
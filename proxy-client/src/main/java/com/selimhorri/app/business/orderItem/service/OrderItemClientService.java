@@ -1,6 +1,9 @@
 package com.selimhorri.app.business.orderItem.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
@@ -14,14 +17,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
 import com.selimhorri.app.business.orderItem.model.OrderItemId;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemBatchOrderItemServiceDtoCollectionResponse;
 import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.config.client.AggregationClientConfig;
 
-@FeignClient(name = "SHIPPING-SERVICE", contextId = "shippingClientService", path = "/shipping-service/api/shippings")
+@FeignClient(name = "SHIPPING-SERVICE", contextId = "shippingClientService", path = "/shipping-service/api/shippings", configuration = AggregationClientConfig.class)
 public interface OrderItemClientService {
 	
 	@GetMapping
 	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll();
 	
+	@GetMapping("/order/{orderId}")
+	ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAllByOrderId(
+			@PathVariable("orderId") final String orderId);
+	
 	@GetMapping("/{orderId}/{productId}")
 	ResponseEntity<OrderItemDto> findById(
 			@PathVariable("orderId") final String orderId, 
@@ -39,6 +48,12 @@ public interface OrderItemClientService {
 			@NotNull(message = "Input must not be NULL") 
 			@Valid final OrderItemDto orderItemDto);
 	
+	@PostMapping("/batch")
+	ResponseEntity<OrderItemBatchOrderItemServiceDtoCollectionResponse> saveAll(
+			@RequestBody 
+			@NotEmpty(message = "Input must not be empty") 
+			final List<OrderItemDto> orderItemDtos);
+	
 	@PutMapping
 	ResponseEntity<OrderItemDto> update(
 			@RequestBody 
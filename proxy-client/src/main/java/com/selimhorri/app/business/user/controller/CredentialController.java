@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.user.controller;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,16 +45,19 @@ public class CredentialController {
 		return ResponseEntity.ok(this.credentialClientService.save(credentialDto).getBody());
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRINCIPALS, allEntries = true)
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
 		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRINCIPALS, allEntries = true)
 	@PutMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
 		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRINCIPALS, allEntries = true)
 	@DeleteMapping("/{credentialId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
 		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.user.controller;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +14,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.UserClientService;
+import com.selimhorri.app.constant.AppConstant;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,16 +45,19 @@ public class UserController {
 		return ResponseEntity.ok(this.userClientService.save(userDto).getBody());
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRINCIPALS, allEntries = true, condition = "#userDto.credentialDto != null")
 	@PutMapping
 	public ResponseEntity<UserDto> update(@RequestBody final UserDto userDto) {
 		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRINCIPALS, allEntries = true, condition = "#userDto.credentialDto != null")
 	@PutMapping("/{userId}")
 	public ResponseEntity<UserDto> update(@PathVariable("userId") final String userId, @RequestBody final UserDto userDto) {
 		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.CacheNames.PRINCIPALS, allEntries = true)
 	@DeleteMapping("/{userId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("userId") final String userId) {
 		return ResponseEntity.ok(this.userClientService.deleteById(userId).getBody());
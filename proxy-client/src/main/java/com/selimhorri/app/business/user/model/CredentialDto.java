@@ -25,6 +25,7 @@ public class CredentialDto {
 	private Boolean isAccountNonExpired;
 	private Boolean isAccountNonLocked;
 	private Boolean isCredentialsNonExpired;
+	private Integer version;
 	
 	@JsonProperty("user")
 	@JsonInclude(value = Include.NON_NULL)
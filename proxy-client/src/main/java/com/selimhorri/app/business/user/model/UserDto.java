@@ -23,6 +23,7 @@ public class UserDto {
 	private String imageUrl;
 	private String email;
 	private String phone;
+	private Integer version;
 	
 	@JsonInclude(value = Include.NON_NULL)
 	private Set<AddressDto> addressDtos;
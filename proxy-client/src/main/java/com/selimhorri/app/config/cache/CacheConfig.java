@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Authenticated principals are cached by username in a Caffeine cache bounded
+ * through {@code spring.cache.caffeine.spec}, which expires entries after 
+ * {@code app.jwt.recheck-interval}, so the JWT filter does not call USER-SERVICE 
+ * on every request; credential and user writes evict the cache.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,45 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Bean;
+
+import feign.Request;
+
+/**
+ * Feign configuration of the clients called by aggregating endpoints, referenced
+ * from their {@code @FeignClient}; deliberately not a {@code @Configuration}, so
+ * other clients keep the Feign defaults.
+ */
+public class AggregationClientConfig {
+	
+	/**
+	 * Connecting and reading together stay within {@code app.aggregation.timeout},
+	 * so a call never outlives the deadline of the request waiting for it. The 
+	 * client's own context has no Duration converter, hence the explicit parse.
+	 */
+	@Bean
+	public Request.Options aggregationRequestOptions(
+			@Value("${app.aggregation.timeout:2s}") final String aggregationTimeout) {
+		final Duration timeout = DurationStyle.detectAndParse(aggregationTimeout);
+		final long connectTimeout = timeout.toMillis() / 4;
+		return new Request.Options(connectTimeout, TimeUnit.MILLISECONDS, 
+				timeout.toMillis() - connectTimeout, TimeUnit.MILLISECONDS, true);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
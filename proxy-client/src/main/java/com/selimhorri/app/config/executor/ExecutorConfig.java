@@ -0,0 +1,42 @@
+package com.selimhorri.app.config.executor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+public class ExecutorConfig {
+	
+	/**
+	 * Bounded pool for the concurrent Feign calls of aggregating endpoints; 
+	 * once the queue is full the calling thread runs the call itself.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService aggregationExecutor(
+			@Value("${app.aggregation.pool-size:32}") final int poolSize, 
+			@Value("${app.aggregation.queue-capacity:512}") final int queueCapacity) {
+		return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(queueCapacity), 
+				new CustomizableThreadFactory("aggregation-"), 
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -13,13 +13,22 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.selimhorri.app.jwt.service.JwtService;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Resolves the principal through the cached {@link UserDetailsService}, whose 
+ * {@code principals} entries live for {@code app.jwt.recheck-interval} and are 
+ * evicted by credential and user writes, so role changes and lockouts take effect 
+ * within one interval at most. The authorities and account flags carried by the 
+ * token only stand in while USER-SERVICE cannot be reached.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -36,19 +45,17 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		
 		final var authorizationHeader = request.getHeader("Authorization");
 		
-		String username = null;
-		String jwt = null;
+		Claims claims = null;
 		
-		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
-		}
+		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") )
+			claims = this.jwtService.parseClaims(authorizationHeader.substring(7));
 		
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		if (claims != null && claims.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final UserDetails userDetails = this.loadUserDetails(claims);
 			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
+			if (this.jwtService.validateToken(claims, userDetails) 
+					&& userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
 				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
 						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -61,6 +68,19 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		log.info("**Jwt request filtered!*\n");
 	}
 	
+	private UserDetails loadUserDetails(final Claims claims) {
+		try {
+			return this.userDetailsService.loadUserByUsername(claims.getSubject());
+		}
+		catch (RestClientException e) {
+			final var userDetails = this.jwtService.extractUserDetails(claims);
+			if (userDetails == null)
+				throw e;
+			log.warn("**JwtRequestFilter, principal recheck failed, using token claims: {}*\n", e.getMessage());
+			return userDetails;
+		}
+	}
+	
 	
 	
 }
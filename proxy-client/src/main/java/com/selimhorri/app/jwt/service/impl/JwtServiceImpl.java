@@ -38,6 +38,18 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.extractClaims(token, claimsResolver);
 	}
 	
+	@Override
+	public Claims parseClaims(final String token) {
+		log.info("**Claims, jwt service parse and verify given token once!*");
+		return this.jwtUtil.parseClaims(token);
+	}
+	
+	@Override
+	public UserDetails extractUserDetails(final Claims claims) {
+		log.info("**UserDetails, jwt service extract userDetails from given claims!*");
+		return this.jwtUtil.extractUserDetails(claims);
+	}
+	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		log.info("**String, jwt service generate token from given userDetails!*");
@@ -50,6 +62,12 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate parsed claims against given userDetails!*");
+		return this.jwtUtil.validateToken(claims, userDetails);
+	}
+	
 	
 	
 }
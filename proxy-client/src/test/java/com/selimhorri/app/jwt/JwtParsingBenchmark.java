@@ -0,0 +1,93 @@
+package com.selimhorri.app.jwt;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Throughput of validating one bearer token the way JwtRequestFilter used to
+ * (three signature-verifying parses) against the single-parse path, with and 
+ * without the verified-token cache.
+ * 
+ * Not picked up by surefire; after {@code mvn test-compile} run {@link #main} 
+ * (or {@code org.openjdk.jmh.Main JwtParsingBenchmark}) on the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtParsingBenchmark {
+	
+	private JwtUtilImpl jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setUp() {
+		this.jwtUtil = new JwtUtilImpl();
+		this.userDetails = new User("selimhorri", "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public boolean threeParses() {
+		final String username = this.jwtUtil.extractUsername(this.token);
+		return username.equals(this.userDetails.getUsername())
+				&& this.jwtUtil.extractUsername(this.token).equals(this.userDetails.getUsername())
+				&& this.jwtUtil.extractExpiration(this.token).getTime() > System.currentTimeMillis();
+	}
+	
+	@Benchmark
+	public boolean singleParse() {
+		final Claims claims = this.jwtUtil.extractClaims(this.token, Function.identity());
+		return this.jwtUtil.validateToken(claims, this.userDetails);
+	}
+	
+	@Benchmark
+	public boolean cachedParse() {
+		return this.jwtUtil.validateToken(this.jwtUtil.parseClaims(this.token), this.userDetails);
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtParsingBenchmark.class.getSimpleName())
+				.build())
+			.run();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,100 @@
+package com.selimhorri.app.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves remote DTOs by id. Asynchronous lookups run on the shared
+ * lookup executor, are bounded by a per-call timeout, and concurrent
+ * requests for the same id share a single in-flight call.
+ */
+@RequiredArgsConstructor
+public abstract class AbstractLookupClient<T> {
+	
+	private static final int REVALIDATION_CACHE_SIZE = 10_000;
+	
+	private final Cache<Integer, ResponseEntity<T>> revalidationCache = Caffeine.newBuilder()
+			.maximumSize(REVALIDATION_CACHE_SIZE)
+			.build();
+	
+	private final Map<Integer, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+	
+	private final RestTemplate restTemplate;
+	private final RequestLookupMemo requestLookupMemo;
+	private final ExecutorService executor;
+	private final String apiUrl;
+	private final Class<T> type;
+	private final Duration timeout;
+	
+	/**
+	 * Revalidates a previously seen representation with If-None-Match, so an
+	 * unchanged entity costs a 304 without a body instead of a full payload.
+	 */
+	public T findById(final Integer id) {
+		
+		final var cached = this.revalidationCache.getIfPresent(id);
+		final var headers = new HttpHeaders();
+		if (cached != null)
+			headers.setIfNoneMatch(cached.getHeaders().getETag());
+		
+		final var response = this.restTemplate.exchange(this.apiUrl + "/" + id, 
+				HttpMethod.GET, new HttpEntity<>(headers), this.type);
+		if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && cached != null)
+			return cached.getBody();
+		
+		if (response.getHeaders().getETag() != null && response.getBody() != null)
+			this.revalidationCache.put(id, response);
+		else
+			this.revalidationCache.invalidate(id);
+		
+		return response.getBody();
+	}
+	
+	/**
+	 * Within an HTTP request the returned future is memoized, so repeated
+	 * ids are resolved once per request even after the call completed.
+	 */
+	public CompletableFuture<T> findByIdAsync(final Integer id) {
+		return this.requestLookupMemo.computeIfAbsent(this.type, id, () -> this.lookupAsync(id));
+	}
+	
+	private CompletableFuture<T> lookupAsync(final Integer id) {
+		
+		final var promise = new CompletableFuture<T>();
+		final var existing = this.inFlight.putIfAbsent(id, promise);
+		if (existing != null)
+			return existing;
+		
+		CompletableFuture.supplyAsync(() -> this.findById(id), this.executor)
+				.orTimeout(this.timeout.toMillis(), TimeUnit.MILLISECONDS)
+				.whenComplete((dto, e) -> {
+					this.inFlight.remove(id, promise);
+					if (e != null)
+						promise.completeExceptionally(e);
+					else
+						promise.complete(dto);
+				});
+		
+		return promise;
+	}
+	
+}
+
+
+
@@ -0,0 +1,26 @@
+package com.selimhorri.app.client;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+
+@Component
+public class OrderClient extends AbstractLookupClient<OrderDto> {
+	
+	public OrderClient(final RestTemplate restTemplate, final RequestLookupMemo requestLookupMemo, 
+			@Qualifier("lookupExecutor") final ExecutorService executor, 
+			@Value("${app.client.lookup.timeout:3s}") final Duration timeout) {
+		super(restTemplate, requestLookupMemo, executor, AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL, OrderDto.class, timeout);
+	}
+	
+}
+
+
+
@@ -0,0 +1,76 @@
+package com.selimhorri.app.client;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memoizes remote lookups for the lifetime of the current HTTP request, so
+ * each distinct id is fetched at most once per request. Outside of a request
+ * lookups pass straight through. Hits and misses are exported as the
+ * {@code lookup.memo} counter, tagged by DTO type.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestLookupMemo {
+	
+	private static final String MEMO_ATTRIBUTE = RequestLookupMemo.class.getName();
+	
+	private final MeterRegistry meterRegistry;
+	
+	@SuppressWarnings("unchecked")
+	public <T> T computeIfAbsent(final Class<?> type, final Integer id, final Supplier<T> lookup) {
+		
+		final var memo = this.currentMemo();
+		if (memo == null)
+			return lookup.get();
+		
+		final var key = type.getName() + "#" + id;
+		if (memo.containsKey(key)) {
+			this.counter(type, "hit").increment();
+			return (T) memo.get(key);
+		}
+		
+		this.counter(type, "miss").increment();
+		final T value = lookup.get();
+		memo.put(key, value);
+		return value;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> currentMemo() {
+		
+		final var attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null)
+			return null;
+		
+		var memo = (Map<String, Object>) attributes.getAttribute(MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (memo == null) {
+			memo = Collections.synchronizedMap(new HashMap<>());
+			attributes.setAttribute(MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+		}
+		
+		return memo;
+	}
+	
+	private Counter counter(final Class<?> type, final String result) {
+		return Counter.builder("lookup.memo")
+				.description("Request-scoped remote lookup memo hits and misses")
+				.tag("type", type.getSimpleName())
+				.tag("result", result)
+				.register(this.meterRegistry);
+	}
+	
+}
+
+
+
@@ -1,17 +1,48 @@
 package com.selimhorri.app.config.client;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class ClientConfig {
 	
+	/**
+	 * Connecting and reading are each bounded by the lookup timeout, so a lookup
+	 * that already timed out for its caller does not keep a pool thread waiting.
+	 */
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public RestTemplate restTemplateBean(final RestTemplateBuilder restTemplateBuilder, 
+			@Value("${app.client.lookup.timeout:3s}") final Duration timeout) {
+		return restTemplateBuilder
+				.setConnectTimeout(timeout)
+				.setReadTimeout(timeout)
+				.build();
+	}
+	
+	/**
+	 * Bounded pool for remote DTO lookups; once the queue is full the
+	 * calling thread runs the lookup itself instead of failing.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService lookupExecutor(
+			@Value("${app.client.lookup.pool-size:16}") final int poolSize, 
+			@Value("${app.client.lookup.queue-capacity:512}") final int queueCapacity) {
+		return new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, 
+				new ArrayBlockingQueue<>(queueCapacity), 
+				new CustomizableThreadFactory("lookup-"), 
+				new ThreadPoolExecutor.CallerRunsPolicy());
 	}
 	
 	
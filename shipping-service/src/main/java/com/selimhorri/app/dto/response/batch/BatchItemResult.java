@@ -0,0 +1,44 @@
+package com.selimhorri.app.dto.response.batch;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BatchItemResult<T> implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Position of the item in the submitted batch.
+	 */
+	private int index;
+	
+	private BatchItemStatus status;
+	
+	@JsonInclude(Include.NON_NULL)
+	private T item;
+	
+	@JsonInclude(Include.NON_NULL)
+	private String message;
+	
+}
+
+
+
+
+
+
+
+
+
+
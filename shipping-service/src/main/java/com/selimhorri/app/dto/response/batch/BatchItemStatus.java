@@ -0,0 +1,19 @@
+package com.selimhorri.app.dto.response.batch;
+
+public enum BatchItemStatus {
+	
+	CREATED,
+	UPDATED,
+	REJECTED;
+	
+}
+
+
+
+
+
+
+
+
+
+
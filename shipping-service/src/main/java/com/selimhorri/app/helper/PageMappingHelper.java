@@ -0,0 +1,87 @@
+package com.selimhorri.app.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.exception.wrapper.MalformedCursorException;
+
+public interface PageMappingHelper {
+	
+	public static final int MAX_PAGE_SIZE = 500;
+	public static final String CURSOR_DELIMITER = ",";
+	
+	/**
+	 * Keyset queries fetch one row past the requested size: if it comes back
+	 * there is a next page, starting right after the last row returned.
+	 */
+	public static Pageable pageable(final int size, final String... sortProperties) {
+		return PageRequest.of(0, boundedSize(size) + 1, Sort.by(sortProperties));
+	}
+	
+	public static <E, T> DtoPageResponse<T> map(final List<E> rows, final int size, 
+			final Function<E, T> mapper, final Function<E, String> cursor) {
+		
+		final int pageSize = boundedSize(size);
+		final var page = rows.subList(0, Math.min(rows.size(), pageSize));
+		
+		return DtoPageResponse.<T>builder()
+				.collection(page.stream()
+						.map(mapper)
+						.collect(Collectors.toUnmodifiableList()))
+				.next(rows.size() > pageSize ? cursor.apply(page.get(page.size() - 1)) : null)
+				.build();
+	}
+	
+	/**
+	 * Composite keys are carried as an opaque, URL-safe cursor.
+	 */
+	public static String encodeCursor(final Object... keyParts) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(List.of(keyParts).stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(CURSOR_DELIMITER))
+				.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * A cursor is client input: anything that does not decode and parse into the
+	 * expected key is reported as a malformed cursor rather than a server error.
+	 */
+	public static <K> K decodeCursor(final String cursor, final int keyParts, final Function<String[], K> keyParser) {
+		try {
+			final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+					.split(CURSOR_DELIMITER, -1);
+			if (decoded.length != keyParts)
+				throw new IllegalArgumentException("Unexpected number of key parts");
+			return keyParser.apply(decoded);
+		}
+		catch (IllegalArgumentException | DateTimeException e) {
+			throw new MalformedCursorException(String.format("Malformed page cursor: %s", cursor), e);
+		}
+	}
+	
+	private static int boundedSize(final int size) {
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,39 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 	
+	List<OrderItem> findAllBy(final Pageable pageable);
+	
+	List<OrderItem> findAllByOrderId(final Integer orderId);
+	
+	List<OrderItem> findAllByOrderIdIn(final Collection<Integer> orderIds);
+	
+	@Query("SELECT o FROM OrderItem o WHERE o.orderId > :orderId "
+			+ "OR (o.orderId = :orderId AND o.productId > :productId)")
+	List<OrderItem> findAllAfter(
+			@Param("orderId") final Integer orderId, 
+			@Param("productId") final Integer productId, 
+			final Pageable pageable);
 	
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.EXPORT_FETCH_SIZE))
+	Stream<OrderItem> streamAllBy();
 	
 }
@@ -1,16 +1,23 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.batch.BatchItemResult;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 
 public interface OrderItemService {
 	
 	List<OrderItemDto> findAll();
+	void streamAll(final Consumer<OrderItemDto> consumer);
+	DtoPageResponse<OrderItemDto> findAll(final String after, final int size);
+	List<OrderItemDto> findAllByOrderId(final Integer orderId);
 	OrderItemDto findById(final OrderItemId orderItemId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
 	OrderItemDto update(final OrderItemDto orderItemDto);
+	List<BatchItemResult<OrderItemDto>> saveAll(final List<OrderItemDto> orderItemDtos);
 	void deleteById(final OrderItemId orderItemId);
 	
 }
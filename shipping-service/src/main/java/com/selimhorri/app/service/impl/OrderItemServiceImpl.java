@@ -1,20 +1,34 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.client.OrderClient;
+import com.selimhorri.app.client.ProductClient;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
-import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
-import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.batch.BatchItemResult;
+import com.selimhorri.app.dto.response.batch.BatchItemStatus;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
 
@@ -28,40 +42,103 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
-	private final RestTemplate restTemplate;
+	private final EntityManager entityManager;
+	private final ProductClient productClient;
+	private final OrderClient orderClient;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrich(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	/**
+	 * Items of a single order without the product and order lookups; callers
+	 * composing an order view already hold the order and fetch products themselves.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** OrderItemDto List, service; fetch orderItems by order id *");
+		return this.orderItemRepository.findAllByOrderId(orderId)
+				.stream()
+					.map(OrderItemMappingHelper::map)
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	/**
+	 * Streams the whole table inside a read-only transaction, clearing the
+	 * persistence context every fetch batch so memory stays flat.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void streamAll(final Consumer<OrderItemDto> consumer) {
+		log.info("*** OrderItemDto Stream, service; stream all orderItems *");
+		try (final var orderItems = this.orderItemRepository.streamAllBy()) {
+			final var iterator = orderItems.iterator();
+			for (int i = 1; iterator.hasNext(); i++) {
+				consumer.accept(OrderItemMappingHelper.map(iterator.next()));
+				if (i % AppConstant.EXPORT_FETCH_SIZE == 0)
+					this.entityManager.clear();
+			}
+		}
+	}
+	
+	@Override
+	public DtoPageResponse<OrderItemDto> findAll(final String after, final int size) {
+		log.info("*** OrderItemDto Page, service; fetch page of orderItems *");
+		final var pageable = PageMappingHelper.pageable(size, "orderId", "productId");
+		final List<OrderItem> orderItems;
+		if (after == null)
+			orderItems = this.orderItemRepository.findAllBy(pageable);
+		else {
+			final var cursor = PageMappingHelper.decodeCursor(after, 2, key -> new OrderItemId(
+					Integer.parseInt(key[1]), Integer.parseInt(key[0])));
+			orderItems = this.orderItemRepository.findAllAfter(cursor.getOrderId(), 
+					cursor.getProductId(), pageable);
+		}
+		final var page = PageMappingHelper.map(orderItems, size, OrderItemMappingHelper::map, 
+				o -> PageMappingHelper.encodeCursor(o.getOrderId(), o.getProductId()));
+		this.enrich(page.getCollection());
+		return page;
+	}
+	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> this.enrich(List.of(o)).get(0))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
+	/**
+	 * Fans out product and order lookups for every item concurrently, so the
+	 * latency is bounded by the slowest lookup rather than their sum. A lookup
+	 * that fails or times out leaves the id-only placeholder in place.
+	 */
+	private List<OrderItemDto> enrich(final List<OrderItemDto> orderItemDtos) {
+		
+		final var lookups = orderItemDtos.stream()
+				.flatMap(o -> Stream.of(
+						this.productClient.findByIdAsync(o.getProductDto().getProductId())
+							.thenAccept(o::setProductDto), 
+						this.orderClient.findByIdAsync(o.getOrderDto().getOrderId())
+							.thenAccept(o::setOrderDto)))
+				.map(lookup -> lookup.exceptionally(e -> {
+					log.warn("*** OrderItemDto, service; remote lookup failed: {} *", e.getMessage());
+					return null;
+				}))
+				.toArray(CompletableFuture[]::new);
+		
+		CompletableFuture.allOf(lookups).join();
+		return orderItemDtos;
+	}
+	
 	@Override
 	public OrderItemDto save(final OrderItemDto orderItemDto) {
 		log.info("*** OrderItemDto, service; save orderItem *");
@@ -76,6 +153,81 @@ public class OrderItemServiceImpl implements OrderItemService {
 				.save(OrderItemMappingHelper.map(orderItemDto)));
 	}
 	
+	/**
+	 * Upserts the whole batch in one transaction: existing rows are loaded with
+	 * a single query, new rows are persisted without a prior select, and the 
+	 * resulting inserts/updates are flushed as JDBC batches 
+	 * ({@code hibernate.jdbc.batch_size}). Incomplete or duplicate items are
+	 * rejected individually without failing the rest of the batch.
+	 */
+	@Override
+	public List<BatchItemResult<OrderItemDto>> saveAll(final List<OrderItemDto> orderItemDtos) {
+		log.info("*** BatchItemResult List, service; save batch of orderItems *");
+		
+		if (orderItemDtos.size() > AppConstant.BATCH_MAX_SIZE)
+			throw new IllegalStateException(String.format("Batch must not exceed %d items", AppConstant.BATCH_MAX_SIZE));
+		
+		final Map<OrderItemId, OrderItem> existing = this.orderItemRepository.findAllByOrderIdIn(orderItemDtos.stream()
+					.filter(Objects::nonNull)
+					.map(OrderItemDto::getOrderId)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toUnmodifiableSet()))
+				.stream()
+					.collect(Collectors.toMap(o -> new OrderItemId(o.getProductId(), o.getOrderId()), Function.identity()));
+		
+		final Set<OrderItemId> seen = new HashSet<>();
+		final List<BatchItemResult<OrderItemDto>> results = new ArrayList<>(orderItemDtos.size());
+		
+		for (int index = 0; index < orderItemDtos.size(); index++) {
+			
+			final var orderItemDto = orderItemDtos.get(index);
+			if (orderItemDto == null || orderItemDto.getOrderId() == null 
+					|| orderItemDto.getProductId() == null || orderItemDto.getOrderedQuantity() == null) {
+				results.add(rejected(index, orderItemDto, "orderId, productId and orderedQuantity are required"));
+				continue;
+			}
+			
+			final var orderItemId = new OrderItemId(orderItemDto.getProductId(), orderItemDto.getOrderId());
+			if (!seen.add(orderItemId)) {
+				results.add(rejected(index, orderItemDto, "Duplicate orderItem in batch"));
+				continue;
+			}
+			
+			final var orderItem = existing.get(orderItemId);
+			if (orderItem == null) {
+				final var created = OrderItemMappingHelper.map(orderItemDto);
+				this.entityManager.persist(created);
+				results.add(accepted(index, BatchItemStatus.CREATED, created));
+			}
+			else {
+				orderItem.setOrderedQuantity(orderItemDto.getOrderedQuantity());
+				results.add(accepted(index, BatchItemStatus.UPDATED, orderItem));
+			}
+		}
+		
+		this.entityManager.flush();
+		return results;
+	}
+	
+	private static BatchItemResult<OrderItemDto> accepted(final int index, final BatchItemStatus status, 
+			final OrderItem orderItem) {
+		return BatchItemResult.<OrderItemDto>builder()
+				.index(index)
+				.status(status)
+				.item(OrderItemMappingHelper.map(orderItem))
+				.build();
+	}
+	
+	private static BatchItemResult<OrderItemDto> rejected(final int index, final OrderItemDto orderItemDto, 
+			final String message) {
+		return BatchItemResult.<OrderItemDto>builder()
+				.index(index)
+				.status(BatchItemStatus.REJECTED)
+				.item(orderItemDto)
+				.message(message)
+				.build();
+	}
+	
 	@Override
 	public void deleteById(final OrderItemId orderItemId) {
 		log.info("*** Void, service; delete orderItem by id *");
@@ -37,6 +37,8 @@ public class CredentialDto implements Serializable {
 	
 	private Boolean isCredentialsNonExpired;
 	
+	private Integer version;
+	
 	@JsonProperty("user")
 	@JsonInclude(value = Include.NON_NULL)
 	private UserDto userDto;
@@ -1,8 +1,10 @@
 package com.selimhorri.app.dto;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -32,6 +34,8 @@ public class UserDto implements Serializable {
 	
 	private String phone;
 	
+	private Integer version;
+	
 	@JsonInclude(value = Include.NON_NULL)
 	private Set<AddressDto> addressDtos;
 	
@@ -39,6 +43,12 @@ public class UserDto implements Serializable {
 	@JsonInclude(value = Include.NON_NULL)
 	private CredentialDto credentialDto;
 	
+	@JsonIgnore
+	private String entityTag;
+	
+	@JsonIgnore
+	private Instant lastModified;
+	
 }
 
 
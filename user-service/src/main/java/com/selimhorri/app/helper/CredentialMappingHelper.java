@@ -17,6 +17,7 @@ public interface CredentialMappingHelper {
 				.isAccountNonExpired(credential.getIsAccountNonExpired())
 				.isAccountNonLocked(credential.getIsAccountNonLocked())
 				.isCredentialsNonExpired(credential.getIsCredentialsNonExpired())
+				.version(credential.getVersion())
 				.userDto(
 						UserDto.builder()
 							.userId(credential.getUser().getUserId())
@@ -25,6 +26,7 @@ public interface CredentialMappingHelper {
 							.imageUrl(credential.getUser().getImageUrl())
 							.email(credential.getUser().getEmail())
 							.phone(credential.getUser().getPhone())
+							.version(credential.getUser().getVersion())
 							.build())
 				.build();
 	}
@@ -39,7 +41,8 @@ public interface CredentialMappingHelper {
 				.isAccountNonExpired(credentialDto.getIsAccountNonExpired())
 				.isAccountNonLocked(credentialDto.getIsAccountNonLocked())
 				.isCredentialsNonExpired(credentialDto.getIsCredentialsNonExpired())
-				.user(
+				.version(credentialDto.getVersion())
+				.user(credentialDto.getUserDto() == null ? null : 
 						User.builder()
 							.userId(credentialDto.getUserDto().getUserId())
 							.firstName(credentialDto.getUserDto().getFirstName())
@@ -47,6 +50,7 @@ public interface CredentialMappingHelper {
 							.imageUrl(credentialDto.getUserDto().getImageUrl())
 							.email(credentialDto.getUserDto().getEmail())
 							.phone(credentialDto.getUserDto().getPhone())
+							.version(credentialDto.getUserDto().getVersion())
 							.build())
 				.build();
 	}
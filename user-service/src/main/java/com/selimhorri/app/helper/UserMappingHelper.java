@@ -15,6 +15,7 @@ public interface UserMappingHelper {
 				.imageUrl(user.getImageUrl())
 				.email(user.getEmail())
 				.phone(user.getPhone())
+				.version(user.getVersion())
 				.credentialDto(
 						CredentialDto.builder()
 							.credentialId(user.getCredential().getCredentialId())
@@ -25,7 +26,10 @@ public interface UserMappingHelper {
 							.isAccountNonExpired(user.getCredential().getIsAccountNonExpired())
 							.isAccountNonLocked(user.getCredential().getIsAccountNonLocked())
 							.isCredentialsNonExpired(user.getCredential().getIsCredentialsNonExpired())
+							.version(user.getCredential().getVersion())
 							.build())
+				.entityTag(EntityTagHelper.eTag(user.getUserId(), user.getVersion(), user.getCredential().getVersion()))
+				.lastModified(EntityTagHelper.lastModified(user, user.getCredential()))
 				.build();
 	}
 	
@@ -37,7 +41,8 @@ public interface UserMappingHelper {
 				.imageUrl(userDto.getImageUrl())
 				.email(userDto.getEmail())
 				.phone(userDto.getPhone())
-				.credential(
+				.version(userDto.getVersion())
+				.credential(userDto.getCredentialDto() == null ? null : 
 						Credential.builder()
 							.credentialId(userDto.getCredentialDto().getCredentialId())
 							.username(userDto.getCredentialDto().getUsername())
@@ -47,6 +52,7 @@ public interface UserMappingHelper {
 							.isAccountNonExpired(userDto.getCredentialDto().getIsAccountNonExpired())
 							.isAccountNonLocked(userDto.getCredentialDto().getIsAccountNonLocked())
 							.isCredentialsNonExpired(userDto.getCredentialDto().getIsCredentialsNonExpired())
+							.version(userDto.getCredentialDto().getVersion())
 							.build())
 				.build();
 	}
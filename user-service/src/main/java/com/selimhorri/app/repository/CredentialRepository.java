@@ -1,13 +1,71 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Credential;
 
+/**
+ * Every read loads the owning user in the same statement, the mapping helper
+ * dereferences it for each credential.
+ */
 public interface CredentialRepository extends JpaRepository<Credential, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "user")
+	List<Credential> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "user")
+	Optional<Credential> findById(final Integer credentialId);
+	
+	@EntityGraph(attributePaths = "user")
 	Optional<Credential> findByUsername(final String username);
 	
+	/**
+	 * Replaces the credential columns in one statement, the owning user is left
+	 * alone. The row only matches at the given version; 0 means the credential is
+	 * missing or was changed in between.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Credential c SET c.username = :#{#credential.username}, c.password = :#{#credential.password}, "
+			+ "c.roleBasedAuthority = :#{#credential.roleBasedAuthority}, c.isEnabled = :#{#credential.isEnabled}, "
+			+ "c.isAccountNonExpired = :#{#credential.isAccountNonExpired}, "
+			+ "c.isAccountNonLocked = :#{#credential.isAccountNonLocked}, "
+			+ "c.isCredentialsNonExpired = :#{#credential.isCredentialsNonExpired}, "
+			+ "c.version = c.version + 1, c.updatedAt = CURRENT_TIMESTAMP WHERE c.credentialId = :credentialId "
+			+ "AND c.version = :#{#credential.version}")
+	int updateById(@Param("credentialId") final Integer credentialId, @Param("credential") final Credential credential);
+	
+	/**
+	 * Same as {@link #updateById} but null fields keep their current value.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Credential c SET c.username = COALESCE(:#{#credential.username}, c.username), "
+			+ "c.password = COALESCE(:#{#credential.password}, c.password), "
+			+ "c.roleBasedAuthority = COALESCE(:#{#credential.roleBasedAuthority}, c.roleBasedAuthority), "
+			+ "c.isEnabled = COALESCE(:#{#credential.isEnabled}, c.isEnabled), "
+			+ "c.isAccountNonExpired = COALESCE(:#{#credential.isAccountNonExpired}, c.isAccountNonExpired), "
+			+ "c.isAccountNonLocked = COALESCE(:#{#credential.isAccountNonLocked}, c.isAccountNonLocked), "
+			+ "c.isCredentialsNonExpired = COALESCE(:#{#credential.isCredentialsNonExpired}, c.isCredentialsNonExpired), "
+			+ "c.version = c.version + 1, c.updatedAt = CURRENT_TIMESTAMP WHERE c.credentialId = :credentialId "
+			+ "AND c.version = :#{#credential.version}")
+	int patchById(@Param("credentialId") final Integer credentialId, @Param("credential") final Credential credential);
+	
 }
+
+
+
+
+
+
+
+
+
+
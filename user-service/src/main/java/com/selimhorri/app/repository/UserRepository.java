@@ -1,13 +1,75 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.User;
 
+/**
+ * Every read loads the credential in the same statement: it is the inverse side
+ * of a one-to-one, so Hibernate would otherwise issue one extra select per user.
+ */
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "credential")
+	List<User> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "credential")
+	List<User> findAllById(final Iterable<Integer> userIds);
+	
+	@Override
+	@EntityGraph(attributePaths = "credential")
+	Optional<User> findById(final Integer userId);
+	
+	@EntityGraph(attributePaths = "credential")
 	Optional<User> findByCredentialUsername(final String username);
 	
+	@EntityGraph(attributePaths = "credential")
+	List<User> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "credential")
+	List<User> findByUserIdGreaterThan(final Integer userId, final Pageable pageable);
+	
+	/**
+	 * Replaces the user columns in one statement, the credential is left alone. The
+	 * row only matches at the given version; 0 means the user is missing or was
+	 * changed in between.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE User u SET u.firstName = :#{#user.firstName}, u.lastName = :#{#user.lastName}, "
+			+ "u.imageUrl = :#{#user.imageUrl}, u.email = :#{#user.email}, u.phone = :#{#user.phone}, "
+			+ "u.version = u.version + 1, u.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE u.userId = :userId AND u.version = :#{#user.version}")
+	int updateById(@Param("userId") final Integer userId, @Param("user") final User user);
+	
+	/**
+	 * Same as {@link #updateById} but null fields keep their current value.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE User u SET u.firstName = COALESCE(:#{#user.firstName}, u.firstName), "
+			+ "u.lastName = COALESCE(:#{#user.lastName}, u.lastName), "
+			+ "u.imageUrl = COALESCE(:#{#user.imageUrl}, u.imageUrl), u.email = COALESCE(:#{#user.email}, u.email), "
+			+ "u.phone = COALESCE(:#{#user.phone}, u.phone), u.version = u.version + 1, u.updatedAt = CURRENT_TIMESTAMP "
+			+ "WHERE u.userId = :userId AND u.version = :#{#user.version}")
+	int patchById(@Param("userId") final Integer userId, @Param("user") final User user);
+	
 }
+
+
+
+
+
+
+
+
+
+
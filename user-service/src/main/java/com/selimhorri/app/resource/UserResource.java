@@ -1,21 +1,28 @@
 package com.selimhorri.app.resource;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
+import com.selimhorri.app.helper.EntityTagHelper;
 import com.selimhorri.app.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -35,13 +42,31 @@ public class UserResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.userService.findAll()));
 	}
 	
+	@GetMapping("/page")
+	public ResponseEntity<DtoPageResponse<UserDto>> findAll(
+			@RequestParam(name = "after", required = false) final Integer after, 
+			@RequestParam(name = "size", defaultValue = "20") final int size) {
+		log.info("*** UserDto Page, controller; fetch page of users *");
+		return ResponseEntity.ok(this.userService.findAll(after, size));
+	}
+	
 	@GetMapping("/{userId}")
 	public ResponseEntity<UserDto> findById(
 			@PathVariable("userId") 
 			@NotBlank(message = "Input must not blank") 
 			@Valid final String userId) {
 		log.info("*** UserDto, resource; fetch user by id *");
-		return ResponseEntity.ok(this.userService.findById(Integer.parseInt(userId.strip())));
+		final var userDto = this.userService.findById(Integer.parseInt(userId.strip()));
+		return EntityTagHelper.ok(userDto.getEntityTag(), userDto.getLastModified(), userDto);
+	}
+	
+	@GetMapping("/ids")
+	public ResponseEntity<DtoCollectionResponse<UserDto>> findAllByIds(
+			@RequestParam("userIds") 
+			@NotEmpty(message = "Input must not be empty") 
+			@Valid final Set<Integer> userIds) {
+		log.info("*** UserDto List, resource; fetch users by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.userService.findAllByIds(userIds)));
 	}
 	
 	@PostMapping
@@ -73,6 +98,17 @@ public class UserResource {
 		return ResponseEntity.ok(this.userService.update(Integer.parseInt(userId.strip()), userDto));
 	}
 	
+	@PatchMapping("/{userId}")
+	public ResponseEntity<UserDto> patch(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not blank") final String userId, 
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Valid final UserDto userDto) {
+		log.info("*** UserDto, resource; patch user with userId *");
+		return ResponseEntity.ok(this.userService.patch(Integer.parseInt(userId.strip()), userDto));
+	}
+	
 	@DeleteMapping("/{userId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("userId") @NotBlank(message = "Input must not blank") @Valid final String userId) {
 		log.info("*** Boolean, resource; delete user by id *");
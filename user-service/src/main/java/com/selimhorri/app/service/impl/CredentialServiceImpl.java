@@ -5,11 +5,13 @@ import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.service.CredentialService;
@@ -52,14 +54,36 @@ public class CredentialServiceImpl implements CredentialService {
 	@Override
 	public CredentialDto update(final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(CredentialMappingHelper.map(credentialDto)));
+		return this.update(credentialDto.getCredentialId(), credentialDto);
 	}
 	
 	@Override
 	public CredentialDto update(final Integer credentialId, final CredentialDto credentialDto) {
 		log.info("*** CredentialDto, service; update credential with credentialId *");
-		return CredentialMappingHelper.map(this.credentialRepository.save(
-				CredentialMappingHelper.map(this.findById(credentialId))));
+		this.requireVersion(credentialId, credentialDto.getVersion());
+		this.afterUpdate(credentialId, credentialDto.getVersion(), 
+				this.credentialRepository.updateById(credentialId, CredentialMappingHelper.map(credentialDto)));
+		return CredentialDto.builder()
+				.credentialId(credentialId)
+				.username(credentialDto.getUsername())
+				.password(credentialDto.getPassword())
+				.roleBasedAuthority(credentialDto.getRoleBasedAuthority())
+				.isEnabled(credentialDto.getIsEnabled())
+				.isAccountNonExpired(credentialDto.getIsAccountNonExpired())
+				.isAccountNonLocked(credentialDto.getIsAccountNonLocked())
+				.isCredentialsNonExpired(credentialDto.getIsCredentialsNonExpired())
+				.version(credentialDto.getVersion() + 1)
+				.userDto(credentialDto.getUserDto())
+				.build();
+	}
+	
+	@Override
+	public CredentialDto patch(final Integer credentialId, final CredentialDto credentialDto) {
+		log.info("*** CredentialDto, service; patch credential with credentialId *");
+		this.requireVersion(credentialId, credentialDto.getVersion());
+		this.afterUpdate(credentialId, credentialDto.getVersion(), 
+				this.credentialRepository.patchById(credentialId, CredentialMappingHelper.map(credentialDto)));
+		return this.findById(credentialId);
 	}
 	
 	@Override
@@ -74,6 +98,26 @@ public class CredentialServiceImpl implements CredentialService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
 	}
 	
+	private void requireVersion(final Integer credentialId, final Integer version) {
+		if (version == null)
+			throw new VersionRequiredException(String.format(
+					"Credential with id: %d can only be updated at the version it was read at", credentialId));
+	}
+	
+	/**
+	 * Updates are a single versioned statement, so no row means either a missing
+	 * credential or a stale version; only then is the table asked which one it was.
+	 * A full update already knows every column of the new row, a patch reads the
+	 * merged row back for the response.
+	 */
+	private void afterUpdate(final Integer credentialId, final Integer version, final int updated) {
+		if (updated == 0 && (credentialId == null || !this.credentialRepository.existsById(credentialId)))
+			throw new CredentialNotFoundException(String.format("Credential with id: %d not found", credentialId));
+		if (updated == 0)
+			throw new ObjectOptimisticLockingFailureException(String.format(
+					"Credential with id: %d is no longer at version %d", credentialId, version), null);
+	}
+	
 	
 	
 }
@@ -1,15 +1,20 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 import com.selimhorri.app.helper.UserMappingHelper;
+import com.selimhorri.app.helper.PageMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
 
@@ -34,6 +39,16 @@ public class UserServiceImpl implements UserService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoPageResponse<UserDto> findAll(final Integer after, final int size) {
+		log.info("*** UserDto Page, service; fetch page of users *");
+		final var pageable = PageMappingHelper.pageable(size, "userId");
+		return PageMappingHelper.map(after == null 
+				? this.userRepository.findAllBy(pageable) 
+				: this.userRepository.findByUserIdGreaterThan(after, pageable), 
+				size, UserMappingHelper::map, u -> String.valueOf(u.getUserId()));
+	}
+	
 	@Override
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
@@ -42,6 +57,16 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with id: %d not found", userId)));
 	}
 	
+	@Override
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		return this.userRepository.findAllById(userIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
@@ -51,14 +76,35 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public UserDto update(final UserDto userDto) {
 		log.info("*** UserDto, service; update user *");
-		return UserMappingHelper.map(this.userRepository.save(UserMappingHelper.map(userDto)));
+		return this.update(userDto.getUserId(), userDto);
 	}
 	
 	@Override
 	public UserDto update(final Integer userId, final UserDto userDto) {
 		log.info("*** UserDto, service; update user with userId *");
-		return UserMappingHelper.map(this.userRepository.save(
-				UserMappingHelper.map(this.findById(userId))));
+		this.requireVersion(userId, userDto.getVersion());
+		this.afterUpdate(userId, userDto.getVersion(), 
+				this.userRepository.updateById(userId, UserMappingHelper.map(userDto)));
+		return UserDto.builder()
+				.userId(userId)
+				.firstName(userDto.getFirstName())
+				.lastName(userDto.getLastName())
+				.imageUrl(userDto.getImageUrl())
+				.email(userDto.getEmail())
+				.phone(userDto.getPhone())
+				.version(userDto.getVersion() + 1)
+				.addressDtos(userDto.getAddressDtos())
+				.credentialDto(userDto.getCredentialDto())
+				.build();
+	}
+	
+	@Override
+	public UserDto patch(final Integer userId, final UserDto userDto) {
+		log.info("*** UserDto, service; patch user with userId *");
+		this.requireVersion(userId, userDto.getVersion());
+		this.afterUpdate(userId, userDto.getVersion(), 
+				this.userRepository.patchById(userId, UserMappingHelper.map(userDto)));
+		return this.findById(userId);
 	}
 	
 	@Override
@@ -74,6 +120,26 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with username: %s not found", username))));
 	}
 	
+	private void requireVersion(final Integer userId, final Integer version) {
+		if (version == null)
+			throw new VersionRequiredException(String.format(
+					"User with id: %d can only be updated at the version it was read at", userId));
+	}
+	
+	/**
+	 * Updates are a single versioned statement, so no row means either a missing
+	 * user or a stale version; only then is the table asked which one it was.
+	 * A full update already knows every column of the new row, a patch reads the
+	 * merged row back for the response.
+	 */
+	private void afterUpdate(final Integer userId, final Integer version, final int updated) {
+		if (updated == 0 && (userId == null || !this.userRepository.existsById(userId)))
+			throw new UserObjectNotFoundException(String.format("User with id: %d not found", userId));
+		if (updated == 0)
+			throw new ObjectOptimisticLockingFailureException(String.format(
+					"User with id: %d is no longer at version %d", userId, version), null);
+	}
+	
 	
 	
 }
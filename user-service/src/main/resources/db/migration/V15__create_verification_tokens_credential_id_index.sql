@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_verification_tokens_credential_id
+  ON verification_tokens (credential_id);
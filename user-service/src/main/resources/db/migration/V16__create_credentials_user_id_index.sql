@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_credentials_user_id
+  ON credentials (user_id);
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_credentials_username
+  ON credentials (username);
@@ -0,0 +1,132 @@
+package com.selimhorri.app.integration;
+
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
+import com.selimhorri.app.repository.CredentialRepository;
+import com.selimhorri.app.repository.UserRepository;
+import com.selimhorri.app.service.impl.CredentialServiceImpl;
+import com.selimhorri.app.service.impl.UserServiceImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class UserRepositoryStatementCountTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAllUsers_ShouldUseConstantStatementCount() {
+        UserServiceImpl userService = new UserServiceImpl(userRepository);
+
+        long before = countStatements(() -> userService.findAll());
+        insertUsers(25);
+        long after = countStatements(() -> assertTrue(userService.findAll().size() >= 25));
+
+        assertEquals(1, before);
+        assertEquals(before, after);
+    }
+
+    @Test
+    void findAllCredentials_ShouldUseConstantStatementCount() {
+        CredentialServiceImpl credentialService = new CredentialServiceImpl(credentialRepository);
+
+        long before = countStatements(() -> credentialService.findAll());
+        insertUsers(25);
+        long after = countStatements(() -> assertTrue(credentialService.findAll().size() >= 25));
+
+        assertEquals(1, before);
+        assertEquals(before, after);
+    }
+
+    @Test
+    void patchUser_ShouldUpdateWithoutLoadingTheRowFirst() {
+        UserServiceImpl userService = new UserServiceImpl(userRepository);
+        User user = userRepository.findById(1).orElseThrow();
+
+        UserDto[] patched = new UserDto[1];
+        long statements = countStatements(() -> patched[0] = userService.patch(1, UserDto.builder()
+                .phone("+100")
+                .version(user.getVersion())
+                .build()));
+
+        assertEquals(2, statements);
+        assertEquals("+100", patched[0].getPhone());
+        assertEquals(user.getFirstName(), patched[0].getFirstName());
+        assertEquals(user.getVersion() + 1, patched[0].getVersion());
+    }
+
+    @Test
+    void updateCredential_ShouldConflictOnStaleVersion() {
+        CredentialServiceImpl credentialService = new CredentialServiceImpl(credentialRepository);
+        CredentialDto credential = credentialService.findById(1);
+
+        credentialService.update(1, credential);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> credentialService.update(1, credential));
+        assertThrows(OptimisticLockingFailureException.class, () -> credentialService.patch(1, CredentialDto.builder()
+                .isEnabled(false)
+                .version(credential.getVersion())
+                .build()));
+        credential.setVersion(null);
+        assertThrows(VersionRequiredException.class, () -> credentialService.update(1, credential));
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void insertUsers(int count) {
+        for (int i = 0; i < count; i++) {
+            User user = entityManager.persist(User.builder()
+                    .firstName("first" + i)
+                    .lastName("last" + i)
+                    .email("user" + i + "@example.com")
+                    .build());
+            entityManager.persist(Credential.builder()
+                    .username("statement-count-user" + i)
+                    .password("password")
+                    .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                    .isEnabled(true)
+                    .isAccountNonExpired(true)
+                    .isAccountNonLocked(true)
+                    .isCredentialsNonExpired(true)
+                    .user(user)
+                    .build());
+        }
+        entityManager.flush();
+    }
+}
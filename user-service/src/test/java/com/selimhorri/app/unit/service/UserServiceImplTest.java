@@ -1,6 +1,8 @@
 package com.selimhorri.app.unit.service;
 
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.exception.wrapper.VersionRequiredException;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.impl.UserServiceImpl;
 import static org.junit.jupiter.api.Assertions.*;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.util.Optional;
 
@@ -56,5 +59,54 @@ public class UserServiceImplTest {
         assertEquals(userDto.getLastName(), result.getLastName());
     }
 
+    @Test
+    void testPatch_ShouldIssueTargetedUpdateAndReturnUpdatedRow() {
+        when(userRepository.patchById(eq(userDto.getUserId()), any())).thenReturn(1);
+        when(userRepository.findById(userDto.getUserId())).thenReturn(Optional.of(UserUtil.getSampleUser()));
+
+        UserDto result = userService.patch(userDto.getUserId(), UserDto.builder().phone("+100").version(0).build());
+
+        assertEquals(userDto.getUserId(), result.getUserId());
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testUpdate_ShouldReturnMergedRowWithoutReadingItBack() {
+        when(userRepository.updateById(eq(userDto.getUserId()), any())).thenReturn(1);
+        userDto.setVersion(3);
+
+        UserDto result = userService.update(userDto.getUserId(), userDto);
+
+        assertEquals(userDto.getFirstName(), result.getFirstName());
+        assertEquals(4, result.getVersion());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdate_ShouldConflictWhenVersionIsStale() {
+        when(userRepository.updateById(eq(userDto.getUserId()), any())).thenReturn(0);
+        when(userRepository.existsById(userDto.getUserId())).thenReturn(true);
+        userDto.setVersion(3);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> userService.update(userDto.getUserId(), userDto));
+    }
+
+    @Test
+    void testPatch_ShouldFailWhenUserIsMissing() {
+        when(userRepository.patchById(eq(42), any())).thenReturn(0);
+        when(userRepository.existsById(42)).thenReturn(false);
+        userDto.setVersion(0);
+
+        assertThrows(UserObjectNotFoundException.class, () -> userService.patch(42, userDto));
+    }
+
+    @Test
+    void testUpdate_ShouldRequireVersion() {
+        userDto.setVersion(null);
+
+        assertThrows(VersionRequiredException.class, () -> userService.update(userDto.getUserId(), userDto));
+        verify(userRepository, never()).updateById(any(), any());
+    }
+
 
 }
\ No newline at end of file